@@ -1,9 +1,17 @@
 package seedu.classcraft;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 
+import seedu.classcraft.exceptions.NUSmodsFetcherException;
+import seedu.classcraft.nusmodsfetcher.NUSmodsFetcher;
 import seedu.classcraft.parser.Parser;
 import seedu.classcraft.command.Command;
+import seedu.classcraft.storage.PlanStore;
+import seedu.classcraft.storage.ShardedPlanStore;
 import seedu.classcraft.storage.Storage;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
@@ -14,41 +22,179 @@ public class ClassCraft {
      */
     public static String studyPlanFile = "./ClassCraftData/studyPlan.txt";
 
+    private static final String CATALOG_OPTION = "--catalog";
+    private static final String JOURNAL_OPTION = "--journal";
+    private static final String GROUP_COMMIT_OPTION = "--group-commit";
+    private static final String BINARY_OPTION = "--binary";
+    private static final String BINARY_STUDY_PLAN_FILE = "./ClassCraftData/studyPlan.bin";
+    private static final String USER_OPTION = "--user";
+    private static final String USERS_DIRECTORY = "./ClassCraftData/users";
+    private static final String SCRIPT_OPTION = "--script";
+
     /**
      * The main method to run the ClassCraft application.
      * 
-     * @param args Command line arguments, should be empty.
+     * @param args Command line arguments. "--catalog {PATH}" runs ClassCraft offline, serving all module
+     *             data from a NUSMods catalog file (e.g. moduleInfo.json) or a directory of module JSON files.
+     *             "--journal" saves each change as one record in a journal instead of rewriting the data file.
+     *             "--group-commit {MILLIS}" writes changes made within that many milliseconds to disk together.
+     *             "--binary" saves the study plan as a binary snapshot, converting any existing text save file.
+     *             "--user {ID}" saves the study plan of that user in its own file under ClassCraftData/users.
+     *             "--script {PATH}" runs the commands in a script file, or in standard input if PATH is "-",
+     *             with buffered output and every module in the script fetched up front.
      */
     public static void main(String[] args) {
+        String scriptSource = null;
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(SCRIPT_OPTION)) {
+                scriptSource = args[i + 1];
+            }
+        }
+        if (scriptSource != null) {
+            ScriptRunner.bufferOutput();
+        }
 
         System.out.println("Hello from " + "ClassCraft");
         System.out.println("Input your command! Type 'help' if you need assistance.");
 
-        Storage storage = new Storage(studyPlanFile);
         Ui ui = new Ui();
+        boolean isJournalMode = false;
+        long groupCommitWindow = 0;
+        String userId = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(CATALOG_OPTION) && i + 1 < args.length) {
+                loadOfflineCatalog(args[++i], ui);
+            } else if (args[i].equals(JOURNAL_OPTION)) {
+                isJournalMode = true;
+            } else if (args[i].equals(GROUP_COMMIT_OPTION) && i + 1 < args.length) {
+                groupCommitWindow = parseGroupCommitWindow(args[++i], ui);
+            } else if (args[i].equals(BINARY_OPTION)) {
+                studyPlanFile = BINARY_STUDY_PLAN_FILE;
+            } else if (args[i].equals(USER_OPTION) && i + 1 < args.length) {
+                userId = args[++i];
+            } else if (args[i].equals(SCRIPT_OPTION) && i + 1 < args.length) {
+                i++; // Handled before anything is printed
+            }
+        }
+
+        List<String> script = null;
+        CompletableFuture<Void> prefetch = CompletableFuture.completedFuture(null);
+        if (scriptSource != null) {
+            try {
+                script = ScriptRunner.readScript(scriptSource);
+                prefetch = ScriptRunner.prefetchModules(script);
+            } catch (IOException e) {
+                ui.showMessage("Could not read script " + scriptSource + ": " + e.getMessage());
+                System.out.flush();
+                return;
+            }
+        }
+
+        PlanStore storage = openStorage(userId, ui);
+        if (storage == null) {
+            System.out.flush();
+            return;
+        }
+        if (isJournalMode) {
+            storage.enableJournal();
+        }
+        storage.setGroupCommitWindow(groupCommitWindow);
 
         StudyPlan currentStudyPlan = storage.restoreData(storage);
-        Scanner in = new Scanner(System.in);
-        String userInput;
 
+        if (script != null) {
+            prefetch.join();
+            for (String userInput : script) {
+                executeInput(userInput, currentStudyPlan, ui, storage);
+            }
+            System.out.flush();
+            return;
+        }
 
+        Scanner in = new Scanner(System.in);
         while (true) {
             if (!in.hasNextLine()) {
                 return;
             }
-            userInput = in.nextLine();
+            executeInput(in.nextLine(), currentStudyPlan, ui, storage);
+        }
 
-            try {
-                Parser parser = new Parser(userInput);
-                Command command = parser.parseInput();
+    }
 
-                command.executeCommand(currentStudyPlan, ui, storage);
+    /**
+     * Parses and executes one line of user input, reporting any error.
+     *
+     * @param userInput The line of user input.
+     * @param studyPlan The current study plan.
+     * @param ui        The user interface to interact with the user.
+     * @param storage   The storage handler to read/write data.
+     */
+    private static void executeInput(String userInput, StudyPlan studyPlan, Ui ui, PlanStore storage) {
+        try {
+            Parser parser = new Parser(userInput);
+            Command command = parser.parseInput();
 
-            } catch (Exception e) {
-                ui.showMessage("Error: " + e.getMessage());
-            }
+            command.executeCommand(studyPlan, ui, storage);
+
+        } catch (Exception e) {
+            ui.showMessage("Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Opens the storage of the given user's study plan, or of the shared study plan if no user is given.
+     * An invalid user ID is reported rather than falling back to the shared study plan,
+     * so that a mistyped ID never loads and edits someone else's plan.
+     *
+     * @param userId The user ID, or null.
+     * @param ui     The user interface to report an invalid user ID with.
+     * @return The storage to save the study plan with, or null if the user ID is invalid.
+     */
+    private static PlanStore openStorage(String userId, Ui ui) {
+        if (userId == null) {
+            return new Storage(studyPlanFile);
+        }
+        String fileExtension = studyPlanFile.substring(studyPlanFile.lastIndexOf('.'));
+        try {
+            return new ShardedPlanStore(Paths.get(USERS_DIRECTORY), fileExtension).forUser(userId);
+        } catch (IllegalArgumentException e) {
+            ui.showMessage(e.getMessage() + "\nClassCraft will now exit.");
+            return null;
+        }
+    }
 
+    /**
+     * Parses the group-commit window given on the command line, falling back to writing every change immediately.
+     *
+     * @param windowMillis The window in milliseconds.
+     * @param ui           The user interface to report an invalid window with.
+     * @return The window in milliseconds, or 0 if it is invalid.
+     */
+    private static long parseGroupCommitWindow(String windowMillis, Ui ui) {
+        try {
+            long window = Long.parseLong(windowMillis);
+            if (window >= 0) {
+                return window;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
         }
+        ui.showMessage("Invalid group-commit window: " + windowMillis + "\nChanges will be saved immediately.");
+        return 0;
+    }
 
+    /**
+     * Switches module lookups to an offline catalog, falling back to NUSMods if it cannot be loaded.
+     *
+     * @param catalogPath Path to the catalog file or directory.
+     * @param ui          The user interface to report the result with.
+     */
+    private static void loadOfflineCatalog(String catalogPath, Ui ui) {
+        try {
+            int moduleCount = NUSmodsFetcher.useOfflineCatalog(Paths.get(catalogPath));
+            System.out.println("Offline mode: loaded " + moduleCount + " modules from " + catalogPath);
+        } catch (NUSmodsFetcherException e) {
+            ui.showMessage(e.getMessage() + "\nModule data will be fetched from NUSMods instead.");
+        }
     }
 }
@@ -0,0 +1,92 @@
+package seedu.classcraft;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import seedu.classcraft.nusmodsfetcher.NUSmodsFetcher;
+import seedu.classcraft.studyplan.ModuleRegistry;
+
+/**
+ * Runs ClassCraft non-interactively from a script of commands, one per line as they would be typed.
+ * Output is buffered rather than written line by line, and every module named in the script is fetched
+ * in one concurrent batch up front, so a long script does not wait on NUSMods once per command.
+ */
+final class ScriptRunner {
+    /** The script source that reads the script from standard input. */
+    static final String STDIN_SOURCE = "-";
+
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private ScriptRunner() {
+    }
+
+    /**
+     * Replaces standard output with a buffered stream that is flushed when the program exits,
+     * including through {@code System.exit} in the exit command.
+     */
+    static void bufferOutput() {
+        PrintStream bufferedOut = new PrintStream(
+                new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), OUTPUT_BUFFER_SIZE), false);
+        System.setOut(bufferedOut);
+        Runtime.getRuntime().addShutdownHook(new Thread(bufferedOut::flush));
+    }
+
+    /**
+     * Reads every line of a script.
+     *
+     * @param source The path of the script file, or {@link #STDIN_SOURCE} to read standard input to its end.
+     * @return The lines of the script.
+     * @throws IOException If the script cannot be read.
+     */
+    static List<String> readScript(String source) throws IOException {
+        if (source.equals(STDIN_SOURCE)) {
+            return new String(System.in.readAllBytes()).lines().toList();
+        }
+        return Files.readAllLines(Paths.get(source));
+    }
+
+    /**
+     * Collects every well-formed module code mentioned in a script, e.g. CS1010 in "add n/cs1010 s/1".
+     *
+     * @param lines The lines of the script.
+     * @return The module codes in upper case, in the order they first appear.
+     */
+    static Set<String> collectModuleCodes(List<String> lines) {
+        Set<String> moduleCodes = new LinkedHashSet<>();
+        for (String line : lines) {
+            for (String token : line.split("[^A-Za-z0-9]+")) {
+                String moduleCode = token.toUpperCase();
+                if (NUSmodsFetcher.isValidModuleCode(moduleCode)) {
+                    moduleCodes.add(moduleCode);
+                }
+            }
+        }
+        return moduleCodes;
+    }
+
+    /**
+     * Starts fetching every module mentioned in a script into the module registry in the background.
+     * Modules that are invalid or cannot be fetched are skipped, and reported when the command using them runs.
+     *
+     * @param lines The lines of the script.
+     * @return The prefetch, completing once every module has been fetched or has failed.
+     */
+    static CompletableFuture<Void> prefetchModules(List<String> lines) {
+        Set<String> moduleCodes = collectModuleCodes(lines);
+        if (moduleCodes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // A failed prefetch only means the modules are fetched again by the commands that use them
+        return CompletableFuture.runAsync(() -> ModuleRegistry.getInstance().getOrFetchAll(moduleCodes))
+                .exceptionally(error -> null);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.classcraft.command;
+
+import seedu.classcraft.storage.PlanStore;
+import seedu.classcraft.studyplan.StudyPlan;
+import seedu.classcraft.ui.Ui;
+
+import java.util.Map;
+
+/**
+ * AddBatchCommand class representing the command to add several modules to the study plan at once.
+ * Extends the Command abstract class and implements the executeCommand method.
+ */
+public class AddBatchCommand extends Command {
+
+    public Map<String, Integer> moduleSemesters;
+
+    /**
+     * AddBatchCommand constructor to create an AddBatchCommand object.
+     *
+     * @param moduleSemesters The semester to add each module to, keyed by module code.
+     */
+    public AddBatchCommand(Map<String, Integer> moduleSemesters) {
+        super();
+        this.moduleSemesters = moduleSemesters;
+    }
+
+    /**
+     * Method from Command parent class.
+     * Uses the studyPlan's addModules method to add every module to the study plan together,
+     * so that either all of them are added with one write to storage or none of them are.
+     * Error is thrown if any exception occurs during the addition of the modules.
+     *
+     * @param studyPlan The current study plan, including data restored from storage.
+     * @param ui        The user interface to interact with the user.
+     * @param storage   The storage handler to read/write data.
+     */
+    @Override
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) {
+        try {
+            studyPlan.addModules(moduleSemesters, storage);
+
+            StringBuilder message = new StringBuilder("Successfully added " + moduleSemesters.size() + " modules:");
+            moduleSemesters.forEach((moduleCode, semester) ->
+                    message.append("\n").append(moduleCode).append(" to semester ").append(semester));
+            ui.showMessage(message.toString());
+        } catch (Exception e) {
+            ui.showMessage("Error adding modules: " + e.getMessage() + "\n\nNo modules were added.");
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package seedu.classcraft.command;
 
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
 import seedu.classcraft.exceptions.StudyPlanException;
@@ -35,7 +35,7 @@ public class AddCommand extends Command {
      * @param storage   The storage handler to read/write data.
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) {
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) {
         try {
 
             studyPlan.addModule(moduleAddInfo[0], Integer.parseInt(moduleAddInfo[1]), storage, false);
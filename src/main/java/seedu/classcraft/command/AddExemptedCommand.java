@@ -3,7 +3,7 @@ package seedu.classcraft.command;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.studyplan.ModuleStatus;
 import seedu.classcraft.ui.Ui;
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 
 /**
  * @@author lingru
@@ -38,7 +38,7 @@ public class AddExemptedCommand extends Command {
      * @param storage   The storage handler.
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) {
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) {
         try {
             studyPlan.addExemptedModule(moduleCode, status, storage, false);
             ui.showMessage("Successfully added " + moduleCode.toUpperCase() + " as " + status.toString());
@@ -1,6 +1,6 @@
 package seedu.classcraft.command;
 
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
 
@@ -19,7 +19,7 @@ public class CalcCreditsCommand extends Command {
     }
 
     /**
-     * Method from Command parent class. Uses the studyPlan's calculateSemCredits method to
+     * Method from Command parent class. Uses the credit counters of the studyPlan to
      * calculate total credits for the specified semester index.
      * 
      * @param studyPlan The current study plan, including data restored from storage.
@@ -27,8 +27,8 @@ public class CalcCreditsCommand extends Command {
      * @param storage   The storage handler to read/write data.
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) {
-        int totalCredits = studyPlan.calculateSemCredits(calculatedSemIndex);
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) {
+        int totalCredits = studyPlan.getStats().getCredits(calculatedSemIndex);
         ui.displayTotalCredits(calculatedSemIndex, totalCredits);
     }
 }
@@ -1,6 +1,6 @@
 package seedu.classcraft.command;
 
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
 
@@ -25,7 +25,7 @@ public class CheckCommand extends Command {
      * @param storage   The Storage object for data persistence.
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) {
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) {
         ui.showMessage("Checking Study plan...");
         studyPlan.checkStudyPlan();
     }
@@ -1,6 +1,6 @@
 package seedu.classcraft.command;
 
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
 
@@ -20,5 +20,5 @@ public abstract class Command {
      */
     public abstract void executeCommand(StudyPlan studyPlan,
                                         Ui ui,
-                                        Storage storage) throws Exception;
+                                        PlanStore storage) throws Exception;
 }
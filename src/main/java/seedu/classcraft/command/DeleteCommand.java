@@ -1,7 +1,7 @@
 package seedu.classcraft.command;
 
 import seedu.classcraft.exceptions.StudyPlanException;
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
 
@@ -32,7 +32,7 @@ public class DeleteCommand extends Command {
      * @param storage   The storage handler to read/write data.
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) {
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) {
         try {
             studyPlan.removeModule(moduleToDelete, storage);
             ui.showMessage("Successfully deleted " + moduleToDelete + " from the study plan.");
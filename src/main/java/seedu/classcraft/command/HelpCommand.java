@@ -1,6 +1,6 @@
 package seedu.classcraft.command;
 
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
 
@@ -19,12 +19,13 @@ public class HelpCommand extends Command {
      * @param storage   The storage handler to read/write data.
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) {
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) {
         String userHelp = "Hi there, do you require help? \n"
                 + "Here are the list of commands you can use:\n\n"
                 + "Basic Commands:\n\n"
                 + "1. add - Adds a Module to your plan.\n" +
-                "   Format: add n/{MODULE_CODE} s/{SEMESTER} (SEMESTER: 1 to 8)\n\n"
+                "   Format: add n/{MODULE_CODE} s/{SEMESTER} (SEMESTER: 1 to 8)\n"
+                + "   Add several modules at once by separating them with commas.\n\n"
                 + "2. delete - Deletes a Module from your plan.\n   Format: delete {MODULE_CODE}\n\n"
                 + "3. view - View Current Plan, Sample Plan or Graduation Requirements.\n   Format: view {INFORMATION} "
                 + "(INFORMATION: plan,grad,sample)\n\n"
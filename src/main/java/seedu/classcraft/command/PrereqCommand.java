@@ -1,10 +1,11 @@
 package seedu.classcraft.command;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import seedu.classcraft.nusmodsfetcher.ModuleInfo;
 import seedu.classcraft.nusmodsfetcher.NUSmodsFetcher;
+import seedu.classcraft.prerequisite.PrereqExpression;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 
 import java.net.URL;
 import java.util.Objects;
@@ -32,24 +33,24 @@ public class PrereqCommand extends Command {
      * @param storage   The storage system.
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) {
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) {
         assert studyPlan != null : "StudyPlan cannot be null";
         assert ui != null : "Ui cannot be null";
 
         logger.log(Level.INFO, "Executing prereq command for module: {0}", moduleCode);
 
         try {
-            String moduleTitle = NUSmodsFetcher.getModuleTitle(moduleCode);
+            ModuleInfo moduleInfo = NUSmodsFetcher.fetchModuleInfo(moduleCode);
+            String moduleTitle = moduleInfo.getTitle();
             logger.log(Level.FINE, "Module title fetched: {0}", moduleTitle);
 
-            JsonNode rootJson = NUSmodsFetcher.fetchModuleJson(moduleCode);
-            JsonNode prereqTree = rootJson.get("prereqTree");
+            PrereqExpression prereqExpression = moduleInfo.getPrereqExpression();
 
-            if (prereqTree == null || prereqTree.isNull()) {
+            if (prereqExpression == null) {
                 logger.log(Level.INFO, "No prerequisites found for module: {0}", moduleCode);
             }
 
-            ui.displayPrerequisites(moduleCode, moduleTitle, prereqTree);
+            ui.displayPrereqExpression(moduleCode, moduleTitle, prereqExpression);
             logger.log(Level.INFO, "Prerequisites displayed successfully for: {0}", moduleCode);
 
         } catch (Exception e) {
@@ -1,7 +1,7 @@
 package seedu.classcraft.command;
 
 
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
 
@@ -32,16 +32,16 @@ public class SetCurrentSemesterCommand extends Command {
      * @param storage   The storage handler to read/write data.
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) {
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) {
         try {
-            int totalSemesters = StudyPlan.getTotalSemesters();
+            int totalSemesters = studyPlan.getTotalSemesters();
             int currentSemester = Integer.parseInt(currentSem);
 
             if (currentSemester < 1 || currentSemester > totalSemesters) {
                 throw new IllegalArgumentException();
             }
 
-            int previousSemester = StudyPlan.getCurrentSemester();
+            int previousSemester = studyPlan.getCurrentSemester();
 
             int modulesCompleted = studyPlan.setCurrentSemester(Integer.parseInt(currentSem), storage, false);
 
@@ -2,7 +2,7 @@ package seedu.classcraft.command;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
 
@@ -71,7 +71,7 @@ public class SpecCommand extends Command {
      * @throws IOException
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) throws IOException {
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) throws IOException {
         try {
             JsonNode specNode = mapper.readTree(SPEC_DATA);
             System.out.print(line);
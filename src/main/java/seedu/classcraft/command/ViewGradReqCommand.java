@@ -1,6 +1,6 @@
 package seedu.classcraft.command;
 
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 import seedu.classcraft.studyplan.Grad;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
@@ -20,7 +20,7 @@ public class ViewGradReqCommand extends Command {
      * @param storage   The storage handler to read/write data.
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) throws Exception {
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) throws Exception {
         String requirements = Grad.getAllRequirementsDisplay();
 
         ui.showMessage(requirements);
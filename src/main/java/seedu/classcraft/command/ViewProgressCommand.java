@@ -1,8 +1,9 @@
 package seedu.classcraft.command;
 
+import seedu.classcraft.studyplan.PlanStats;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 
 /**
  * @@author lingru
@@ -27,9 +28,10 @@ public class ViewProgressCommand extends Command {
      * @param storage   The storage handler.
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) throws Exception {
-        double percentage = studyPlan.getDegreeProgressPercentage();
-        int securedMCs = studyPlan.getTotalSecuredMCs();
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) throws Exception {
+        PlanStats stats = studyPlan.getStats();
+        double percentage = stats.getDegreeProgressPercentage();
+        int securedMCs = stats.getSecuredCredits();
         int totalMCs = studyPlan.getTotalMcsForGraduation();
 
         String message = "Your Degree Progress: " + percentage + "%" + System.lineSeparator()
@@ -1,6 +1,6 @@
 package seedu.classcraft.command;
 
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.storage.PlanStore;
 import seedu.classcraft.studyplan.StudyPlan;
 import seedu.classcraft.ui.Ui;
 
@@ -19,10 +19,10 @@ public class ViewSamplePlanCommand extends Command {
      * @param storage   The storage handler to read/write data.
      */
     @Override
-    public void executeCommand(StudyPlan studyPlan, Ui ui, Storage storage) throws Exception {
+    public void executeCommand(StudyPlan studyPlan, Ui ui, PlanStore storage) throws Exception {
         StudyPlan samplePlan = StudyPlan.getSampleStudyPlan();
 
-        ui.displaySamplePlan(samplePlan);
+        ui.displaySamplePlan(samplePlan.getSnapshot());
     }
 }
 
@@ -0,0 +1,135 @@
+package seedu.classcraft.nusmodsfetcher;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Disk cache of raw NUSMods module responses, stored under ClassCraftData/cache.
+ * Entries are keyed by academic year and module code, one file per module.
+ * An entry older than the time-to-live is still returned, but marked as stale
+ * so that the caller can serve it while refreshing it in the background.
+ */
+public class ModuleCache {
+    public static final String DEFAULT_CACHE_DIRECTORY = "./ClassCraftData/cache";
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(7);
+
+    private static final Logger logger = Logger.getLogger(ModuleCache.class.getName());
+    private static final String CACHE_FILE_EXTENSION = ".json";
+
+    private final Path yearDirectory;
+    private volatile Duration timeToLive;
+
+    /**
+     * Represents a cached module response and whether it has outlived the time-to-live.
+     */
+    public static class Entry {
+        private final String body;
+        private final boolean isStale;
+
+        Entry(String body, boolean isStale) {
+            this.body = body;
+            this.isStale = isStale;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public boolean isStale() {
+            return isStale;
+        }
+    }
+
+    /**
+     * Creates a cache for one academic year.
+     *
+     * @param cacheDirectory The root directory of the cache.
+     * @param academicYear   The academic year the cached modules belong to, e.g. "2025-2026".
+     * @param timeToLive     How long an entry stays fresh after it is written.
+     */
+    public ModuleCache(String cacheDirectory, String academicYear, Duration timeToLive) {
+        assert cacheDirectory != null && academicYear != null : "Cache location cannot be null";
+        this.yearDirectory = Paths.get(cacheDirectory, academicYear);
+        setTimeToLive(timeToLive);
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets how long a cached entry stays fresh.
+     *
+     * @param timeToLive The new time-to-live, must not be negative.
+     */
+    public void setTimeToLive(Duration timeToLive) {
+        if (timeToLive == null || timeToLive.isNegative()) {
+            throw new IllegalArgumentException("Cache time-to-live must not be negative.");
+        }
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Reads the cached response of a module.
+     *
+     * @param moduleCode The module code to look up.
+     * @return The cached entry, or null if the module is not cached.
+     */
+    public Entry read(String moduleCode) {
+        Path file = getCacheFile(moduleCode);
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try {
+            Instant writtenAt = Files.getLastModifiedTime(file).toInstant();
+            String body = Files.readString(file, StandardCharsets.UTF_8);
+            boolean isStale = !writtenAt.plus(timeToLive).isAfter(Instant.now());
+            return new Entry(body, isStale);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to read cached module " + moduleCode + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the response of a module to the cache, replacing any older entry.
+     * The body is written to a temporary file first so that readers never see a partial entry.
+     *
+     * @param moduleCode The module code the response belongs to.
+     * @param body       The raw JSON response from NUSMods.
+     */
+    public void write(String moduleCode, String body) {
+        Path file = getCacheFile(moduleCode);
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(yearDirectory);
+            Path tempFile = Files.createTempFile(yearDirectory, moduleCode, ".tmp");
+            Files.writeString(tempFile, body, StandardCharsets.UTF_8);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to cache module " + moduleCode + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resolves the cache file of a module, rejecting codes that are not plain alphanumeric.
+     */
+    private Path getCacheFile(String moduleCode) {
+        if (moduleCode == null || !moduleCode.matches("^[A-Za-z0-9]+$")) {
+            return null;
+        }
+        return yearDirectory.resolve(moduleCode.toUpperCase() + CACHE_FILE_EXTENSION);
+    }
+}
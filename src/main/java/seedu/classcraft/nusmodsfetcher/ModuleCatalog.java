@@ -0,0 +1,113 @@
+package seedu.classcraft.nusmodsfetcher;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import seedu.classcraft.exceptions.NUSmodsFetcherException;
+
+/**
+ * In-memory snapshot of the NUSMods module catalog for one academic year.
+ * A catalog is imported in a single pass, either from a bulk file holding a JSON array of modules
+ * (such as NUSMods' moduleInfo.json) or from a directory of per-module JSON files.
+ * Only the parsed module records are kept, never the raw JSON trees.
+ */
+public class ModuleCatalog {
+    private static final Logger logger = Logger.getLogger(ModuleCatalog.class.getName());
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final Map<String, ModuleInfo> modules;
+
+    private ModuleCatalog(Map<String, ModuleInfo> modules) {
+        this.modules = Collections.unmodifiableMap(modules);
+    }
+
+    /**
+     * Imports a catalog from a bulk JSON file or from a directory of per-module JSON files.
+     *
+     * @param source Path to the bulk file or to the directory.
+     * @return The imported catalog.
+     * @throws NUSmodsFetcherException If the source cannot be read or is not in a supported format.
+     */
+    public static ModuleCatalog load(Path source) throws NUSmodsFetcherException {
+        Map<String, ModuleInfo> modules = new HashMap<>();
+        try {
+            if (Files.isDirectory(source)) {
+                loadDirectory(source, modules);
+            } else {
+                loadBulkFile(source, modules);
+            }
+        } catch (IOException e) {
+            throw new NUSmodsFetcherException("Failed to load module catalog from " + source + ": " + e.getMessage());
+        }
+
+        logger.log(Level.INFO, "Loaded " + modules.size() + " modules from catalog " + source);
+        return new ModuleCatalog(modules);
+    }
+
+    /**
+     * Streams through a JSON array of module objects, parsing each module straight off the stream.
+     */
+    private static void loadBulkFile(Path file, Map<String, ModuleInfo> modules)
+            throws IOException, NUSmodsFetcherException {
+        try (JsonParser parser = mapper.getFactory().createParser(file.toFile())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new NUSmodsFetcherException("Module catalog " + file + " is not a JSON array of modules.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                addModule(parser, modules, file);
+            }
+        }
+    }
+
+    private static void loadDirectory(Path directory, Map<String, ModuleInfo> modules) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : files) {
+                try (JsonParser parser = mapper.getFactory().createParser(file.toFile())) {
+                    parser.nextToken();
+                    addModule(parser, modules, file);
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Skipping unreadable catalog file " + file + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the module the parser is positioned on, skipping it with a warning if it is not a valid module.
+     */
+    private static void addModule(JsonParser parser, Map<String, ModuleInfo> modules, Path source)
+            throws IOException {
+        try {
+            ModuleInfo module = ModuleInfo.parse(null, parser);
+            if (!module.getModuleCode().isEmpty()) {
+                modules.put(module.getModuleCode().toUpperCase(), module);
+            }
+        } catch (NUSmodsFetcherException e) {
+            logger.log(Level.WARNING, "Skipping invalid module in catalog " + source + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Looks up a module in the catalog.
+     *
+     * @param moduleCode The module code to look up.
+     * @return The module record, or null if the module is not in the catalog.
+     */
+    public ModuleInfo get(String moduleCode) {
+        return modules.get(moduleCode.toUpperCase());
+    }
+
+    public int size() {
+        return modules.size();
+    }
+}
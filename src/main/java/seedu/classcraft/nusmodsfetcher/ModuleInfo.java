@@ -0,0 +1,250 @@
+package seedu.classcraft.nusmodsfetcher;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import seedu.classcraft.exceptions.NUSmodsFetcherException;
+import seedu.classcraft.prerequisite.PrereqExpression;
+
+/**
+ * Holds the fields of a single NUSMods module record that ClassCraft uses.
+ * All fields are taken from one API response, so a module only needs to be fetched once.
+ * The response is parsed as a stream and only these fields are kept, so the large timetable
+ * and workload sections of a module are never held in memory.
+ */
+public class ModuleInfo {
+    private static final int INVALID_SEMESTER_DATA = -1;
+    private static final Set<String> TEXT_FIELDS = Set.of("moduleCode", "title", "moduleCredit", "description",
+            "department", "faculty", "prerequisite");
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final String moduleCode;
+    private final String title;
+    private final int moduleCredit;
+    private final String description;
+    private final String department;
+    private final String faculty;
+    private final String prerequisite;
+    private final PrereqExpression prereqExpression;
+    private final int semesterOffered;
+    private final String semesterError;
+
+    private ModuleInfo(String moduleCode, String title, int moduleCredit, String description, String department,
+                       String faculty, String prerequisite, PrereqExpression prereqExpression, int semesterOffered,
+                       String semesterError) {
+        this.moduleCode = moduleCode;
+        this.title = title;
+        this.moduleCredit = moduleCredit;
+        this.description = description;
+        this.department = department;
+        this.faculty = faculty;
+        this.prerequisite = prerequisite;
+        this.prereqExpression = prereqExpression;
+        this.semesterOffered = semesterOffered;
+        this.semesterError = semesterError;
+    }
+
+    /**
+     * Parses a module from a NUSMods module JSON response.
+     *
+     * @param moduleCode The module code that was requested.
+     * @param json       The raw JSON response.
+     * @return The parsed module record.
+     * @throws NUSmodsFetcherException If the response does not describe a module.
+     */
+    public static ModuleInfo parse(String moduleCode, String json) throws NUSmodsFetcherException {
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            parser.nextToken();
+            return parse(moduleCode, parser);
+        } catch (IOException e) {
+            throw new NUSmodsFetcherException("Failed to parse module data for " + moduleCode + ": "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses one module object in a single streaming pass, keeping only the fields ClassCraft uses.
+     * Every other field, such as the timetables in semesterData and the workload, is skipped
+     * without being materialised. The parser must be positioned on the start of the object,
+     * and is left on its end even if the module turns out to be invalid.
+     *
+     * @param moduleCode The module code that was requested, or null to use the code in the data.
+     * @param parser     The parser positioned on the module object.
+     * @return The parsed module record.
+     * @throws NUSmodsFetcherException If the object does not describe a module.
+     * @throws IOException             If the JSON is malformed.
+     */
+    static ModuleInfo parse(String moduleCode, JsonParser parser) throws NUSmodsFetcherException, IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            throw new NUSmodsFetcherException("Invalid module data for " + moduleCode);
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        PrereqExpression prereqExpression = null;
+        int semesterOffered = INVALID_SEMESTER_DATA;
+        String semesterError = "semesterData is not an array for module: " + moduleCode;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (TEXT_FIELDS.contains(fieldName)) {
+                fields.put(fieldName, value.isScalarValue() && value != JsonToken.VALUE_NULL
+                        ? parser.getText() : "");
+                parser.skipChildren();
+            } else if (fieldName.equals("prereqTree")) {
+                // The tree is small, and is dropped as soon as it is converted to the typed model
+                JsonNode tree = parser.readValueAsTree();
+                prereqExpression = PrereqExpression.fromJson(tree);
+            } else if (fieldName.equals("semesterData") && value == JsonToken.START_ARRAY) {
+                semesterError = null;
+                try {
+                    semesterOffered = parseSemesterOffered(parser);
+                } catch (NUSmodsFetcherException e) {
+                    semesterError = e.getMessage();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (moduleCode == null) {
+            moduleCode = fields.getOrDefault("moduleCode", "");
+        }
+
+        int moduleCredit;
+        try {
+            moduleCredit = Integer.parseInt(fields.getOrDefault("moduleCredit", ""));
+        } catch (NumberFormatException e) {
+            throw new NUSmodsFetcherException("Invalid module credits for " + moduleCode + ": " + e.getMessage());
+        }
+        assert moduleCredit >= 0 : "Module credits should be non-negative.";
+
+        return new ModuleInfo(moduleCode, extractField(fields, "title"), moduleCredit,
+                extractField(fields, "description"), extractField(fields, "department"),
+                extractField(fields, "faculty"), extractField(fields, "prerequisite"), prereqExpression,
+                semesterOffered, semesterError);
+    }
+
+    /**
+     * Helper method to extract a specific text field of the module.
+     *
+     * @param fields    The text fields read from the module data.
+     * @param fieldName The field name to extract.
+     * @return The text stored under fieldName, or an empty string if it is missing.
+     */
+    private static String extractField(Map<String, String> fields, String fieldName) {
+        assert fieldName != null && !fieldName.isEmpty() : "Field name should be non-null and non-empty.";
+        return fields.getOrDefault(fieldName, "");
+    }
+
+    /**
+     * Converts the semesterData array into the semester offering code, reading only the semester numbers.
+     * The array is always consumed to its end, even if it holds an unexpected semester.
+     *
+     * @param parser The parser positioned on the start of the semesterData array.
+     * @return 0 if not offered, 1 or 2 if offered in that semester only, 3 if offered in both.
+     * @throws NUSmodsFetcherException If the semester data is malformed.
+     * @throws IOException             If the JSON is malformed.
+     */
+    private static int parseSemesterOffered(JsonParser parser) throws NUSmodsFetcherException, IOException {
+        boolean offeredInSem1 = false;
+        boolean offeredInSem2 = false;
+        String error = null;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            int semesterNum = readSemesterNumber(parser);
+            switch (semesterNum) {
+            case 1:
+                offeredInSem1 = true;
+                break;
+            case 2:
+                offeredInSem2 = true;
+                break;
+            default:
+                if (error == null) {
+                    error = "Unexpected semester number: " + semesterNum;
+                }
+            }
+        }
+        if (error != null) {
+            throw new NUSmodsFetcherException(error);
+        }
+        return (offeredInSem1 && offeredInSem2) ? 3 : (offeredInSem1 ? 1 : (offeredInSem2 ? 2 : 0));
+    }
+
+    /**
+     * Reads the semester number of one semesterData entry, skipping its timetable and exam details.
+     */
+    private static int readSemesterNumber(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return INVALID_SEMESTER_DATA;
+        }
+        int semesterNum = INVALID_SEMESTER_DATA;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals("semester")) {
+                semesterNum = parser.getValueAsInt(INVALID_SEMESTER_DATA);
+            }
+            parser.skipChildren();
+        }
+        return semesterNum;
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getModuleCredit() {
+        return moduleCredit;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public String getFaculty() {
+        return faculty;
+    }
+
+    public String getPrerequisite() {
+        return prerequisite;
+    }
+
+    /**
+     * Returns the prerequisites of the module, parsed from its prereqTree.
+     *
+     * @return The prerequisite expression, or null if the module has no prerequisites.
+     */
+    public PrereqExpression getPrereqExpression() {
+        return prereqExpression;
+    }
+
+    /**
+     * Returns the semester(s) the module is offered in.
+     *
+     * @return 0 if not offered, 1 or 2 if offered in that semester only, 3 if offered in both.
+     * @throws NUSmodsFetcherException If the semester data of the module could not be parsed.
+     */
+    public int getSemesterOffered() throws NUSmodsFetcherException {
+        if (semesterError != null) {
+            throw new NUSmodsFetcherException(semesterError);
+        }
+        return semesterOffered;
+    }
+}
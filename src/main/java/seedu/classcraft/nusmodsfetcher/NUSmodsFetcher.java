@@ -4,48 +4,333 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import seedu.classcraft.exceptions.NUSmodsFetcherException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.JsonNode;
 
 // @@author ashpasa
 /**
  * Fetches module information from NUSMods API, returns data as strings.
+ * Responses are kept in a disk cache so that modules already seen are served locally.
+ * In offline mode, every lookup is served from an imported module catalog instead.
  */ 
 public abstract class NUSmodsFetcher {
+    public static final String ACADEMIC_YEAR = "2025-2026";
+
+    private static final String CACHE_TTL_HOURS_PROPERTY = "classcraft.cache.ttlHours";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int NEGATIVE_CACHE_SIZE = 256;
+    private static final Duration NEGATIVE_CACHE_TIME_TO_LIVE = Duration.ofMinutes(10);
+    private static final Pattern MODULE_CODE_PATTERN = Pattern.compile("^[A-Z]{2,3}\\d{4}[A-Z]?$");
+    private static final Logger logger = Logger.getLogger(NUSmodsFetcher.class.getName());
     private static final HttpClient client = HttpClient.newHttpClient();
-    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ModuleCache cache = new ModuleCache(ModuleCache.DEFAULT_CACHE_DIRECTORY, ACADEMIC_YEAR,
+            readCacheTimeToLive());
+    private static final Map<String, CompletableFuture<ModuleInfo>> inFlightDownloads = new ConcurrentHashMap<>();
+    private static final NegativeCache negativeCache = new NegativeCache(NEGATIVE_CACHE_SIZE,
+            NEGATIVE_CACHE_TIME_TO_LIVE);
+    private static volatile ModuleCatalog offlineCatalog;
+    private static volatile Function<String, CompletableFuture<ModuleInfo>> requestSender =
+            NUSmodsFetcher::sendDownload;
 
     /**
-     * Fetches the module JSON data from NUSMods API for the given module code.
+     * Fetches and parses a module without blocking the caller.
+     * A fresh cached response is used without any network call. A stale cached response
+     * is used immediately while it is re-downloaded in the background.
+     * The NUSMods API is only called directly when the module is not cached.
+     * In offline mode, the module is looked up in the offline catalog and the network is never used.
      *
      * @param moduleCode The module code to fetch data for, as displayed on NUSMods.
-     * @return JsonNode representing the module data.
+     * @return A future completed with the module record, or completed exceptionally with a
+     *         NUSmodsFetcherException if the module could not be fetched.
+     */
+    public static CompletableFuture<ModuleInfo> fetchModuleAsync(String moduleCode) {
+        if (moduleCode == null || !isValidModuleCode(moduleCode.trim().toUpperCase())) {
+            return CompletableFuture.failedFuture(new NUSmodsFetcherException("Module code " + moduleCode
+                    + " is not a valid module code."));
+        }
+
+        String knownFailure = negativeCache.getFailure(moduleCode);
+        if (knownFailure != null) {
+            return CompletableFuture.failedFuture(new NUSmodsFetcherException(knownFailure));
+        }
+
+        ModuleCatalog catalog = offlineCatalog;
+        if (catalog != null) {
+            ModuleInfo moduleInfo = catalog.get(moduleCode);
+            if (moduleInfo == null) {
+                return CompletableFuture.failedFuture(new NUSmodsFetcherException("Module " + moduleCode
+                        + " is not in the offline module catalog."));
+            }
+            return CompletableFuture.completedFuture(moduleInfo);
+        }
+
+        ModuleCache.Entry cached = cache.read(moduleCode);
+        if (cached != null) {
+            try {
+                ModuleInfo moduleInfo = ModuleInfo.parse(moduleCode, cached.getBody());
+                if (cached.isStale()) {
+                    refreshInBackground(moduleCode);
+                }
+                return CompletableFuture.completedFuture(moduleInfo);
+            } catch (NUSmodsFetcherException e) {
+                logger.log(Level.WARNING, "Ignoring unreadable cache entry for " + moduleCode);
+            }
+        }
+
+        return download(moduleCode);
+    }
+
+    /**
+     * Fetches several modules concurrently, so that the total wait is roughly that of the slowest request.
+     * Modules that cannot be fetched are logged and left out of the result.
+     *
+     * @param moduleCodes The module codes to fetch.
+     * @return A future completed with the fetched modules, keyed by module code in the order given.
+     */
+    public static CompletableFuture<Map<String, ModuleInfo>> fetchAllAsync(Collection<String> moduleCodes) {
+        Map<String, CompletableFuture<ModuleInfo>> pending = new LinkedHashMap<>();
+        for (String moduleCode : moduleCodes) {
+            pending.computeIfAbsent(moduleCode, code -> fetchModuleAsync(code).handle((moduleInfo, error) -> {
+                if (error != null) {
+                    logger.log(Level.WARNING, "Could not fetch " + code + ": " + unwrap(error).getMessage());
+                }
+                return moduleInfo;
+            }));
+        }
+
+        return CompletableFuture.allOf(pending.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    Map<String, ModuleInfo> fetched = new LinkedHashMap<>();
+                    for (Map.Entry<String, CompletableFuture<ModuleInfo>> entry : pending.entrySet()) {
+                        ModuleInfo moduleInfo = entry.getValue().join();
+                        if (moduleInfo != null) {
+                            fetched.put(entry.getKey(), moduleInfo);
+                        }
+                    }
+                    return fetched;
+                });
+    }
+
+    /**
+     * Checks that a module code has the format of an NUS module code, e.g. CS2040 or CS2040C.
+     *
+     * @param moduleCode The module code to check.
+     * @return true if the module code is well-formed.
+     */
+    public static boolean isValidModuleCode(String moduleCode) {
+        return moduleCode != null && MODULE_CODE_PATTERN.matcher(moduleCode).matches();
+    }
+
+    /**
+     * Downloads a module from NUSMods API, joining the download already in flight for the same module if any.
+     * Every caller waiting on a module shares one request, so each cache miss costs exactly one network call.
+     */
+    private static CompletableFuture<ModuleInfo> download(String moduleCode) {
+        String key = moduleCode.toUpperCase();
+        CompletableFuture<ModuleInfo> pending = new CompletableFuture<>();
+        CompletableFuture<ModuleInfo> inFlight = inFlightDownloads.putIfAbsent(key, pending);
+        if (inFlight != null) {
+            logger.log(Level.FINE, "Joining in-flight download of " + moduleCode);
+            return inFlight;
+        }
+
+        // The download that just finished may have cached the module after the caller's cache lookup
+        ModuleInfo cachedModule = readFreshCacheEntry(moduleCode);
+        CompletableFuture<ModuleInfo> source = cachedModule != null
+                ? CompletableFuture.completedFuture(cachedModule)
+                : requestSender.apply(moduleCode);
+
+        source.whenComplete((moduleInfo, error) -> {
+            inFlightDownloads.remove(key, pending);
+            if (error != null) {
+                pending.completeExceptionally(unwrap(error));
+            } else {
+                pending.complete(moduleInfo);
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * Sends the request for a module and caches the response if it holds valid module data.
+     */
+    private static CompletableFuture<ModuleInfo> sendDownload(String moduleCode) {
+        return client.sendAsync(buildRequest(moduleCode), HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw new CompletionException(new NUSmodsFetcherException("Failed to fetch module data for "
+                                + moduleCode + ": " + unwrap(error).getMessage()));
+                    }
+                    try {
+                        ModuleInfo moduleInfo = parseResponse(moduleCode, response);
+                        cache.write(moduleCode, response.body());
+                        return moduleInfo;
+                    } catch (NUSmodsFetcherException e) {
+                        // Only remember definite answers: a missing module or a malformed payload
+                        int status = response.statusCode();
+                        if (status == HTTP_NOT_FOUND || status == HTTP_OK) {
+                            negativeCache.record(moduleCode, e.getMessage());
+                        }
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    /**
+     * Replaces the sender of requests to NUSMods API, so that tests can observe and complete downloads.
+     *
+     * @param sender The sender to use, or null to send requests to NUSMods API again.
+     */
+    static void setRequestSender(Function<String, CompletableFuture<ModuleInfo>> sender) {
+        requestSender = sender == null ? NUSmodsFetcher::sendDownload : sender;
+    }
+
+    /**
+     * Returns the number of modules with a download in flight.
+     */
+    static int getInFlightDownloadCount() {
+        return inFlightDownloads.size();
+    }
+
+    private static ModuleInfo readFreshCacheEntry(String moduleCode) {
+        ModuleCache.Entry cached = cache.read(moduleCode);
+        if (cached == null || cached.isStale()) {
+            return null;
+        }
+        try {
+            return ModuleInfo.parse(moduleCode, cached.getBody());
+        } catch (NUSmodsFetcherException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Waits for a fetch to complete, rethrowing its failure as a NUSmodsFetcherException.
      */
-    public static JsonNode fetchModuleJson(String moduleCode) throws NUSmodsFetcherException {
-        String url = "https://api.nusmods.com/v2/2025-2026/modules/" + moduleCode + ".json";
+    private static <T> T await(String moduleCode, CompletableFuture<T> future) throws NUSmodsFetcherException {
         try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .build();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            return mapper.readTree(response.body());
-        } catch (Exception e) {
-            throw new NUSmodsFetcherException("Failed to fetch module data for " + moduleCode + ": " + e.getMessage());
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof NUSmodsFetcherException) {
+                throw (NUSmodsFetcherException) cause;
+            }
+            throw new NUSmodsFetcherException("Failed to fetch module data for " + moduleCode + ": "
+                    + cause.getMessage());
         }
     }
 
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
     /**
-     * Helper method to extract a specific field from the JSON root.
+     * Sets how long a cached module stays fresh before it is refreshed from NUSMods.
      *
-     * @param root      The root JsonNode, obtained from fetchModuleJson.
-     * @param fieldName The field name to extract.
-     * @return The text stored in the .json file under fieldName, as a string.
+     * @param timeToLive The new time-to-live of cached modules.
      */
-    private static String extractField(JsonNode root, String fieldName) {
-        assert fieldName != null && !fieldName.isEmpty() : "Field name should be non-null and non-empty.";
-        return root.path(fieldName).asText("");
+    public static void setCacheTimeToLive(Duration timeToLive) {
+        cache.setTimeToLive(timeToLive);
+    }
+
+    /**
+     * Switches the fetcher to offline mode, serving every lookup from a catalog snapshot.
+     *
+     * @param source A bulk catalog file such as moduleInfo.json, or a directory of per-module JSON files.
+     * @return The number of modules imported.
+     * @throws NUSmodsFetcherException If the catalog cannot be loaded.
+     */
+    public static int useOfflineCatalog(Path source) throws NUSmodsFetcherException {
+        ModuleCatalog catalog = ModuleCatalog.load(source);
+        offlineCatalog = catalog;
+        return catalog.size();
+    }
+
+    /**
+     * Leaves offline mode, so that modules are fetched from the cache or NUSMods API again.
+     */
+    public static void clearOfflineCatalog() {
+        offlineCatalog = null;
+    }
+
+    public static boolean isOffline() {
+        return offlineCatalog != null;
+    }
+
+    private static HttpRequest buildRequest(String moduleCode) {
+        String url = "https://api.nusmods.com/v2/" + ACADEMIC_YEAR + "/modules/" + moduleCode + ".json";
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .build();
+    }
+
+    /**
+     * Checks that a response holds module data and parses it.
+     */
+    private static ModuleInfo parseResponse(String moduleCode, HttpResponse<String> response)
+            throws NUSmodsFetcherException {
+        if (response.statusCode() != HTTP_OK) {
+            throw new NUSmodsFetcherException("Failed to fetch module data for " + moduleCode
+                    + ": HTTP " + response.statusCode());
+        }
+        return ModuleInfo.parse(moduleCode, response.body());
+    }
+
+    /**
+     * Re-downloads a stale module without blocking the caller, replacing the cache entry on success.
+     */
+    private static void refreshInBackground(String moduleCode) {
+        download(moduleCode).whenComplete((moduleInfo, error) -> {
+            if (error != null) {
+                logger.log(Level.FINE, "Keeping stale cache entry for " + moduleCode + ": "
+                        + unwrap(error).getMessage());
+            }
+        });
+    }
+
+    /**
+     * Reads the cache time-to-live from the system properties, falling back to the default.
+     */
+    private static Duration readCacheTimeToLive() {
+        String hours = System.getProperty(CACHE_TTL_HOURS_PROPERTY);
+        if (hours == null) {
+            return ModuleCache.DEFAULT_TIME_TO_LIVE;
+        }
+        try {
+            long ttlHours = Long.parseLong(hours.trim());
+            return ttlHours >= 0 ? Duration.ofHours(ttlHours) : ModuleCache.DEFAULT_TIME_TO_LIVE;
+        } catch (NumberFormatException e) {
+            return ModuleCache.DEFAULT_TIME_TO_LIVE;
+        }
+    }
+
+    /**
+     * Fetches the module data from NUSMods API once and parses every field ClassCraft uses.
+     *
+     * @param moduleCode The module code to fetch data for, as displayed on NUSMods.
+     * @return ModuleInfo holding the title, credits, description, semesters and prerequisites of the module.
+     * @throws NUSmodsFetcherException If the module could not be fetched or is not a valid module.
+     */
+    public static ModuleInfo fetchModuleInfo(String moduleCode) throws NUSmodsFetcherException {
+        return await(moduleCode, fetchModuleAsync(moduleCode));
     }
 
     /**
@@ -56,8 +341,7 @@ public abstract class NUSmodsFetcher {
      * @throws NUSmodsFetcherException
      */
     public static String getModuleTitle(String moduleCode) throws NUSmodsFetcherException {
-        JsonNode root = fetchModuleJson(moduleCode);
-        return extractField(root, "title");
+        return fetchModuleInfo(moduleCode).getTitle();
     }
 
     /**
@@ -68,11 +352,7 @@ public abstract class NUSmodsFetcher {
      * @throws NUSmodsFetcherException
      */
     public static int getModuleCredits(String moduleCode) throws NUSmodsFetcherException {
-        JsonNode root = fetchModuleJson(moduleCode);
-        String moduleCreditsAsString = extractField(root, "moduleCredit");
-        int moduleCredits = Integer.parseInt(moduleCreditsAsString);
-        assert moduleCredits >= 0 : "Module credits should be non-negative.";
-        return moduleCredits;
+        return fetchModuleInfo(moduleCode).getModuleCredit();
     }
 
     /**
@@ -83,8 +363,7 @@ public abstract class NUSmodsFetcher {
      * @throws NUSmodsFetcherException
      */
     public static String getDepartment(String moduleCode) throws NUSmodsFetcherException {
-        JsonNode root = fetchModuleJson(moduleCode);
-        return extractField(root, "department");
+        return fetchModuleInfo(moduleCode).getDepartment();
     }
 
     /**
@@ -95,8 +374,7 @@ public abstract class NUSmodsFetcher {
      * @throws NUSmodsFetcherException
      */
     public static String getFaculty(String moduleCode) throws NUSmodsFetcherException {
-        JsonNode root = fetchModuleJson(moduleCode);
-        return extractField(root, "faculty");
+        return fetchModuleInfo(moduleCode).getFaculty();
     }
 
     /**
@@ -107,8 +385,7 @@ public abstract class NUSmodsFetcher {
      * @throws NUSmodsFetcherException
      */
     public static String getModuleDescription(String moduleCode) throws NUSmodsFetcherException {
-        JsonNode root = fetchModuleJson(moduleCode);
-        return extractField(root, "description");
+        return fetchModuleInfo(moduleCode).getDescription();
     }
 
     /**
@@ -119,8 +396,7 @@ public abstract class NUSmodsFetcher {
      * @throws NUSmodsFetcherException
      */
     public static String getModulePrerequisites(String moduleCode) throws NUSmodsFetcherException {
-        JsonNode root = fetchModuleJson(moduleCode);
-        return extractField(root, "prerequisite");
+        return fetchModuleInfo(moduleCode).getPrerequisite();
     }
 
     /**
@@ -135,28 +411,7 @@ public abstract class NUSmodsFetcher {
      * @throws NUSmodsFetcherException
      */
     public static int getSemesterOffered(String moduleCode) throws NUSmodsFetcherException {
-        JsonNode root = fetchModuleJson(moduleCode);
-        boolean offeredInSem1 = false;
-        boolean offeredInSem2 = false;
-        JsonNode semesterDataNode = root.path("semesterData");
-        if (semesterDataNode.isArray()) {
-            for (JsonNode sem : semesterDataNode) {
-                int semesterNum = sem.path("semester").asInt(-1);
-                switch(semesterNum) {
-                case 1:
-                    offeredInSem1 = true;
-                    break;
-                case 2:
-                    offeredInSem2 = true;
-                    break;
-                default:
-                    throw new NUSmodsFetcherException("Unexpected semester number: " + semesterNum);
-                }
-            }
-            return (offeredInSem1 && offeredInSem2) ? 3 : (offeredInSem1 ? 1 : (offeredInSem2 ? 2 : 0));
-        } else {
-            throw new NUSmodsFetcherException("semesterData is not an array for module: " + moduleCode);
-        }
+        return fetchModuleInfo(moduleCode).getSemesterOffered();
     }
 }
 // @@author
@@ -0,0 +1,90 @@
+package seedu.classcraft.nusmodsfetcher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers module codes that NUSMods recently reported as missing or invalid,
+ * so that repeated lookups of a bad code fail without any I/O.
+ * The cache holds at most a fixed number of codes, evicting the least recently used,
+ * and each entry expires after a short time-to-live in case the catalog changes.
+ */
+public class NegativeCache {
+    private final int maxEntries;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final LinkedHashMap<String, Failure> failures;
+
+    /**
+     * Represents why a module code was rejected and when that stops being trusted.
+     */
+    private static class Failure {
+        private final String reason;
+        private final Instant expiresAt;
+
+        Failure(String reason, Instant expiresAt) {
+            this.reason = reason;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public NegativeCache(int maxEntries, Duration timeToLive) {
+        this(maxEntries, timeToLive, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a negative cache.
+     *
+     * @param maxEntries The maximum number of module codes remembered.
+     * @param timeToLive How long a failure is remembered.
+     * @param clock      The clock used to expire entries.
+     */
+    NegativeCache(int maxEntries, Duration timeToLive, Clock clock) {
+        assert maxEntries > 0 : "Negative cache must hold at least one entry";
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.failures = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Failure> eldest) {
+                return size() > NegativeCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Records that a module code does not exist or returned invalid data.
+     *
+     * @param moduleCode The rejected module code.
+     * @param reason     The error message to repeat on later lookups.
+     */
+    public synchronized void record(String moduleCode, String reason) {
+        failures.put(moduleCode.toUpperCase(), new Failure(reason, clock.instant().plus(timeToLive)));
+    }
+
+    /**
+     * Looks up a recent failure of a module code.
+     *
+     * @param moduleCode The module code to look up.
+     * @return The recorded error message, or null if the code has not failed recently.
+     */
+    public synchronized String getFailure(String moduleCode) {
+        String key = moduleCode.toUpperCase();
+        Failure failure = failures.get(key);
+        if (failure == null) {
+            return null;
+        }
+        if (!failure.expiresAt.isAfter(clock.instant())) {
+            failures.remove(key);
+            return null;
+        }
+        return failure.reason;
+    }
+
+    public synchronized int size() {
+        return failures.size();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.classcraft.parser;
 
+import seedu.classcraft.command.AddBatchCommand;
 import seedu.classcraft.command.AddCommand;
 import seedu.classcraft.command.AddExemptedCommand;
 import seedu.classcraft.command.CalcCreditsCommand;
@@ -21,6 +22,7 @@ import seedu.classcraft.exceptions.EmptyInstruction;
 import seedu.classcraft.studyplan.ModuleStatus;
 import seedu.classcraft.ui.Ui;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.net.URL;
 import java.util.Objects;
@@ -100,6 +102,9 @@ public class Parser {
             case "help":
                 return new HelpCommand();
             case "add":
+                if (userInstructions.contains(",")) {
+                    return new AddBatchCommand(parseAddBatch());
+                }
                 String[] addModuleInfo = parseAdd();
                 return new AddCommand(addModuleInfo);
             case "delete":
@@ -190,8 +195,10 @@ public class Parser {
 
             try {
                 int maxArgs = commandArgLimits.get(commandType);
+                // A batch add is checked entry by entry in parseAddBatch, however it is spaced around commas
+                boolean isBatchAdd = commandType.equals("add") && userInstructions.contains(",");
 
-                if (argumentList.length > maxArgs) {
+                if (!isBatchAdd && argumentList.length > maxArgs) {
                     throw new EmptyInstruction(commandType);
 
                 }
@@ -264,12 +271,44 @@ public class Parser {
      * @return String array containing module code and semester information.
      */
     public String[] parseAdd() throws EmptyInstruction {
+        return parseAddEntry(userInstructions);
+    }
+
+    /**
+     * Parses the user input for a batch add command, made of comma-separated add instructions
+     * (e.g., add n/CS1010 s/1, n/MA1511 s/1, n/CS2040C s/2).
+     * Each instruction is parsed like a single add command.
+     * Throws EmptyInstruction if any instruction is invalid or a module code is repeated.
+     *
+     * @return The semester of each module, keyed by module code in the order given.
+     */
+    public Map<String, Integer> parseAddBatch() throws EmptyInstruction {
+        Map<String, Integer> moduleSemesters = new LinkedHashMap<>();
+        for (String entry : userInstructions.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] addModuleInformation = parseAddEntry(entry);
+            if (moduleSemesters.containsKey(addModuleInformation[0])) {
+                ui.showMessage("Module " + addModuleInformation[0] + " is listed more than once.");
+                logger.log(Level.WARNING, "Repeated module code in batch add command.");
+                throw new EmptyInstruction("add");
+            }
+            moduleSemesters.put(addModuleInformation[0], Integer.parseInt(addModuleInformation[1]));
+        }
+        if (moduleSemesters.isEmpty()) {
+            throw new EmptyInstruction("add");
+        }
+        return moduleSemesters;
+    }
+
+    private String[] parseAddEntry(String instructions) throws EmptyInstruction {
         String[] addModuleInformation = new String[2];
         String moduleCode;
         String semester;
 
         try {
-            String normalized = userInstructions.trim().replaceAll("\\s+", " ");
+            String normalized = instructions.trim().replaceAll("\\s+", " ");
             int nIndex = normalized.indexOf("n/");
             int sIndex = normalized.indexOf("s/");
 
@@ -0,0 +1,211 @@
+package seedu.classcraft.prerequisite;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A prerequisite expression compiled into a predicate over a bitset of completed module IDs.
+ * Module codes are interned when the expression is compiled and wildcards are resolved to the set
+ * of matching IDs, so that evaluation does no string work and allocates nothing.
+ * A compiled prerequisite is immutable apart from its wildcard sets, which catch up with module
+ * codes interned after compilation the next time they are evaluated.
+ */
+public final class CompiledPrereq {
+    private final Node root;
+
+    private CompiledPrereq(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles a prerequisite expression.
+     *
+     * @param expression The expression to compile.
+     * @return The compiled prerequisite.
+     */
+    public static CompiledPrereq compile(PrereqExpression expression) {
+        assert expression != null : "Expression cannot be null";
+        return new CompiledPrereq(compileNode(expression));
+    }
+
+    /**
+     * Checks whether the completed modules satisfy the prerequisite.
+     *
+     * @param completedModules The IDs of the completed modules, as assigned by {@link ModuleCode}.
+     * @return true if the prerequisite is satisfied.
+     */
+    public boolean isSatisfiedBy(BitSet completedModules) {
+        return root.test(completedModules);
+    }
+
+    /**
+     * Checks whether a module can contribute to satisfying the prerequisite.
+     *
+     * @param moduleId The ID of the module, as assigned by {@link ModuleCode}.
+     * @return true if the module is named in the prerequisite or matches one of its wildcards.
+     */
+    public boolean references(int moduleId) {
+        return root.references(moduleId);
+    }
+
+    private static Node compileNode(PrereqExpression expression) {
+        if (expression instanceof PrereqExpression.And and) {
+            return new AndNode(compileChildren(and.children()));
+        }
+        if (expression instanceof PrereqExpression.Or or) {
+            return new OrNode(compileChildren(or.children()));
+        }
+        if (expression instanceof PrereqExpression.NOf nOf) {
+            return new NOfNode(nOf.required(), compileChildren(nOf.children()));
+        }
+        if (expression instanceof PrereqExpression.Wildcard wildcard) {
+            return new WildcardNode(wildcard.prefix());
+        }
+
+        String moduleCode = ((PrereqExpression.ModuleRef) expression).moduleCode();
+        return new ModuleNode(ModuleCode.intern(moduleCode), PrereqExpression.isBridgingModule(moduleCode));
+    }
+
+    private static Node[] compileChildren(List<PrereqExpression> children) {
+        Node[] nodes = new Node[children.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = compileNode(children.get(i));
+        }
+        return nodes;
+    }
+
+    private interface Node {
+        boolean test(BitSet completedModules);
+
+        boolean references(int moduleId);
+    }
+
+    /**
+     * Requires one module. A bridging module is always satisfied, but is still referenced.
+     */
+    private static final class ModuleNode implements Node {
+        private final int moduleId;
+        private final boolean isBridgingModule;
+
+        ModuleNode(int moduleId, boolean isBridgingModule) {
+            this.moduleId = moduleId;
+            this.isBridgingModule = isBridgingModule;
+        }
+
+        @Override
+        public boolean test(BitSet completedModules) {
+            return isBridgingModule || completedModules.get(moduleId);
+        }
+
+        @Override
+        public boolean references(int moduleId) {
+            return this.moduleId == moduleId;
+        }
+    }
+
+    /**
+     * Common base of the nodes that combine child nodes.
+     */
+    private abstract static class BranchNode implements Node {
+        protected final Node[] children;
+
+        BranchNode(Node[] children) {
+            this.children = children;
+        }
+
+        @Override
+        public boolean references(int moduleId) {
+            for (Node child : children) {
+                if (child.references(moduleId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class AndNode extends BranchNode {
+        AndNode(Node[] children) {
+            super(children);
+        }
+
+        @Override
+        public boolean test(BitSet completedModules) {
+            for (Node child : children) {
+                if (!child.test(completedModules)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class OrNode extends BranchNode {
+        OrNode(Node[] children) {
+            super(children);
+        }
+
+        @Override
+        public boolean test(BitSet completedModules) {
+            for (Node child : children) {
+                if (child.test(completedModules)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class NOfNode extends BranchNode {
+        private final int required;
+
+        NOfNode(int required, Node[] children) {
+            super(children);
+            this.required = required;
+        }
+
+        @Override
+        public boolean test(BitSet completedModules) {
+            if (required <= 0) {
+                return true;
+            }
+            int satisfiedCount = 0;
+            for (Node child : children) {
+                if (child.test(completedModules) && ++satisfiedCount >= required) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Matches any completed module starting with a prefix, using the IDs of all interned codes with that prefix.
+     */
+    private static final class WildcardNode implements Node {
+        private final String prefix;
+        private final BitSet matchingIds = new BitSet();
+        private int scannedUpTo = 0;
+
+        WildcardNode(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public synchronized boolean test(BitSet completedModules) {
+            // Only codes interned since the last scan can be missing from the matching IDs
+            if (completedModules.length() > scannedUpTo) {
+                scannedUpTo = ModuleCode.addPrefixMatches(prefix, scannedUpTo, matchingIds);
+            }
+            return matchingIds.intersects(completedModules);
+        }
+
+        @Override
+        public synchronized boolean references(int moduleId) {
+            if (moduleId >= scannedUpTo) {
+                scannedUpTo = ModuleCode.addPrefixMatches(prefix, scannedUpTo, matchingIds);
+            }
+            return matchingIds.get(moduleId);
+        }
+    }
+}
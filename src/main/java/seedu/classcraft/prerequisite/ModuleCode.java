@@ -0,0 +1,86 @@
+package seedu.classcraft.prerequisite;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns module codes as dense integer IDs, so that sets of modules can be held as bitsets.
+ * IDs are handed out in the order codes are first seen and never change, so a compiled
+ * prerequisite or a saved bitset stays valid for the lifetime of the program.
+ */
+public final class ModuleCode {
+    private static final Map<String, Integer> ids = new HashMap<>();
+    private static final List<String> codes = new ArrayList<>();
+
+    private ModuleCode() {
+    }
+
+    /**
+     * Returns the ID of a module code, assigning the next free ID if the code has not been seen before.
+     *
+     * @param moduleCode The module code to intern.
+     * @return The ID of the module code.
+     */
+    public static synchronized int intern(String moduleCode) {
+        assert moduleCode != null : "Module code cannot be null";
+        Integer id = ids.get(moduleCode);
+        if (id != null) {
+            return id;
+        }
+        int newId = codes.size();
+        codes.add(moduleCode);
+        ids.put(moduleCode, newId);
+        return newId;
+    }
+
+    /**
+     * Looks up the ID of a module code without interning it, for queries that must not grow the interner.
+     *
+     * @param moduleCode The module code to look up.
+     * @return The ID of the module code, or -1 if the code has never been interned.
+     */
+    public static synchronized int lookup(String moduleCode) {
+        Integer id = ids.get(moduleCode);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the module code an ID was assigned to.
+     *
+     * @param id The ID of the module code.
+     * @return The module code.
+     */
+    public static synchronized String valueOf(int id) {
+        return codes.get(id);
+    }
+
+    /**
+     * Returns the number of module codes interned so far, which is also the next ID to be assigned.
+     * The count only grows, so it doubles as a version number for caches built from the interned codes.
+     *
+     * @return The number of interned module codes.
+     */
+    public static synchronized int size() {
+        return codes.size();
+    }
+
+    /**
+     * Sets the bits of every interned module code, from a given ID onwards, that starts with a prefix.
+     *
+     * @param prefix  The module code prefix.
+     * @param fromId  The first ID to check.
+     * @param matches The bitset to set the matching IDs in.
+     * @return The number of module codes interned, i.e. the first ID to check on the next call.
+     */
+    static synchronized int addPrefixMatches(String prefix, int fromId, BitSet matches) {
+        for (int id = fromId; id < codes.size(); id++) {
+            if (codes.get(id).startsWith(prefix)) {
+                matches.set(id);
+            }
+        }
+        return codes.size();
+    }
+}
@@ -0,0 +1,377 @@
+package seedu.classcraft.prerequisite;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Typed form of a NUSMods prerequisite tree, parsed once when a module is fetched.
+ * Checking, displaying and searching prerequisites all work off this model,
+ * so the JSON tree of a module does not have to be kept or walked again.
+ */
+public sealed interface PrereqExpression
+        permits PrereqExpression.And, PrereqExpression.Or, PrereqExpression.NOf,
+        PrereqExpression.ModuleRef, PrereqExpression.Wildcard {
+
+    Set<String> BRIDGING_MODULES = Set.of("MA1301", "MA1301X", "MA1301FC", "PC1201");
+
+    /**
+     * Checks whether the completed modules satisfy this expression.
+     *
+     * @param completedModules The codes of the modules completed so far.
+     * @return true if the prerequisites are satisfied.
+     */
+    boolean isSatisfiedBy(Set<String> completedModules);
+
+    /**
+     * Checks whether a module can contribute to satisfying this expression.
+     *
+     * @param moduleCode The module code to look for.
+     * @return true if the module is named in this expression or matches one of its wildcards.
+     */
+    boolean references(String moduleCode);
+
+    /**
+     * Adds the codes of all modules named in this expression to the given collection, in order of appearance.
+     *
+     * @param moduleCodes The collection to add the module codes to.
+     */
+    void collectModuleCodes(Collection<String> moduleCodes);
+
+    /**
+     * Adds the prefixes of all wildcards in this expression to the given collection, in order of appearance.
+     *
+     * @param prefixes The collection to add the prefixes to.
+     */
+    void collectWildcardPrefixes(Collection<String> prefixes);
+
+    /**
+     * Converts this expression to human-readable form, leaving out bridging modules.
+     *
+     * @return The readable expression, or an empty string if nothing is worth displaying.
+     */
+    String describe();
+
+    /**
+     * Converts this expression back to the NUSMods prerequisite tree format.
+     *
+     * @return The prerequisite tree as JSON.
+     */
+    JsonNode toJson();
+
+    /**
+     * Requires every child expression to be satisfied.
+     */
+    record And(List<PrereqExpression> children) implements PrereqExpression {
+        public And {
+            children = List.copyOf(children);
+        }
+
+        @Override
+        public boolean isSatisfiedBy(Set<String> completedModules) {
+            return children.stream().allMatch(child -> child.isSatisfiedBy(completedModules));
+        }
+
+        @Override
+        public boolean references(String moduleCode) {
+            return children.stream().anyMatch(child -> child.references(moduleCode));
+        }
+
+        @Override
+        public void collectModuleCodes(Collection<String> moduleCodes) {
+            children.forEach(child -> child.collectModuleCodes(moduleCodes));
+        }
+
+        @Override
+        public void collectWildcardPrefixes(Collection<String> prefixes) {
+            children.forEach(child -> child.collectWildcardPrefixes(prefixes));
+        }
+
+        @Override
+        public String describe() {
+            return describeAll(children, " AND ");
+        }
+
+        @Override
+        public JsonNode toJson() {
+            return wrapChildren("and", children);
+        }
+    }
+
+    /**
+     * Requires at least one child expression to be satisfied. An empty Or can never be satisfied.
+     */
+    record Or(List<PrereqExpression> children) implements PrereqExpression {
+        public Or {
+            children = List.copyOf(children);
+        }
+
+        @Override
+        public boolean isSatisfiedBy(Set<String> completedModules) {
+            return children.stream().anyMatch(child -> child.isSatisfiedBy(completedModules));
+        }
+
+        @Override
+        public boolean references(String moduleCode) {
+            return children.stream().anyMatch(child -> child.references(moduleCode));
+        }
+
+        @Override
+        public void collectModuleCodes(Collection<String> moduleCodes) {
+            children.forEach(child -> child.collectModuleCodes(moduleCodes));
+        }
+
+        @Override
+        public void collectWildcardPrefixes(Collection<String> prefixes) {
+            children.forEach(child -> child.collectWildcardPrefixes(prefixes));
+        }
+
+        @Override
+        public String describe() {
+            return describeAll(children, " OR ");
+        }
+
+        @Override
+        public JsonNode toJson() {
+            return wrapChildren("or", children);
+        }
+    }
+
+    /**
+     * Requires at least a given number of the child expressions to be satisfied.
+     */
+    record NOf(int required, List<PrereqExpression> children) implements PrereqExpression {
+        public NOf {
+            children = List.copyOf(children);
+        }
+
+        @Override
+        public boolean isSatisfiedBy(Set<String> completedModules) {
+            long satisfiedCount = children.stream()
+                    .filter(child -> child.isSatisfiedBy(completedModules))
+                    .count();
+            return satisfiedCount >= required;
+        }
+
+        @Override
+        public boolean references(String moduleCode) {
+            return children.stream().anyMatch(child -> child.references(moduleCode));
+        }
+
+        @Override
+        public void collectModuleCodes(Collection<String> moduleCodes) {
+            children.forEach(child -> child.collectModuleCodes(moduleCodes));
+        }
+
+        @Override
+        public void collectWildcardPrefixes(Collection<String> prefixes) {
+            children.forEach(child -> child.collectWildcardPrefixes(prefixes));
+        }
+
+        @Override
+        public String describe() {
+            List<String> parts = new ArrayList<>();
+            for (PrereqExpression child : children) {
+                String part = child.describe();
+                if (!part.isEmpty()) {
+                    parts.add(part);
+                }
+            }
+            return "Need " + required + " of these: " + String.join(" OR ", parts);
+        }
+
+        @Override
+        public JsonNode toJson() {
+            ObjectNode node = JsonNodeFactory.instance.objectNode();
+            ArrayNode nOf = node.putArray("nOf");
+            nOf.add(required);
+            ArrayNode modules = nOf.addArray();
+            children.forEach(child -> modules.add(child.toJson()));
+            return node;
+        }
+    }
+
+    /**
+     * Requires one specific module. Bridging modules are always treated as satisfied.
+     *
+     * @param moduleCode The module code, without any grade requirement.
+     * @param minGrade   The minimum grade required, or null if there is none.
+     */
+    record ModuleRef(String moduleCode, String minGrade) implements PrereqExpression {
+        @Override
+        public boolean isSatisfiedBy(Set<String> completedModules) {
+            return isBridgingModule(moduleCode) || completedModules.contains(moduleCode);
+        }
+
+        @Override
+        public boolean references(String moduleCode) {
+            return this.moduleCode.equals(moduleCode);
+        }
+
+        @Override
+        public void collectModuleCodes(Collection<String> moduleCodes) {
+            moduleCodes.add(moduleCode);
+        }
+
+        @Override
+        public void collectWildcardPrefixes(Collection<String> prefixes) {
+            // A single module has no wildcard
+        }
+
+        @Override
+        public String describe() {
+            if (isBridgingModule(moduleCode) || !moduleCode.matches("^[A-Z]{2,3}\\d{4}[A-Z]{0,2}$")) {
+                return "";
+            }
+            return moduleCode;
+        }
+
+        @Override
+        public JsonNode toJson() {
+            return JsonNodeFactory.instance.objectNode().put("moduleCode", withGrade(moduleCode, minGrade));
+        }
+    }
+
+    /**
+     * Requires any module whose code starts with a prefix, written as e.g. "CS1010%" by NUSMods.
+     *
+     * @param prefix   The module code prefix, without the wildcard.
+     * @param minGrade The minimum grade required, or null if there is none.
+     */
+    record Wildcard(String prefix, String minGrade) implements PrereqExpression {
+        @Override
+        public boolean isSatisfiedBy(Set<String> completedModules) {
+            return completedModules.stream().anyMatch(code -> code.startsWith(prefix));
+        }
+
+        @Override
+        public boolean references(String moduleCode) {
+            return moduleCode.startsWith(prefix);
+        }
+
+        @Override
+        public void collectModuleCodes(Collection<String> moduleCodes) {
+            // A wildcard does not name any single module
+        }
+
+        @Override
+        public void collectWildcardPrefixes(Collection<String> prefixes) {
+            prefixes.add(prefix);
+        }
+
+        @Override
+        public String describe() {
+            return prefix + " (or any variant)";
+        }
+
+        @Override
+        public JsonNode toJson() {
+            return JsonNodeFactory.instance.objectNode().put("moduleCode", withGrade(prefix + "%", minGrade));
+        }
+    }
+
+    /**
+     * Parses a NUSMods prerequisite tree.
+     * Module codes may be given as strings such as "CS1010:D" or as objects with a moduleCode field.
+     * Nodes that are not recognised become an empty Or, which is never satisfied.
+     *
+     * @param node The prereqTree node of a module.
+     * @return The parsed expression, or null if the module has no prerequisites.
+     */
+    static PrereqExpression fromJson(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return null;
+        }
+        return parseNode(node);
+    }
+
+    private static PrereqExpression parseNode(JsonNode node) {
+        if (node.isObject() && node.has("nOf")) {
+            JsonNode nOf = node.get("nOf");
+            if (!nOf.isArray() || nOf.size() != 2) {
+                return new Or(List.of());
+            }
+            return new NOf(nOf.get(0).asInt(), parseChildren(nOf.get(1)));
+        }
+        if (node.isObject() && node.has("or")) {
+            JsonNode or = node.get("or");
+            return new Or(or.isArray() ? parseChildren(or) : List.of());
+        }
+        if (node.isObject() && node.has("and")) {
+            // A malformed AND has no conditions, so it is always satisfied
+            JsonNode and = node.get("and");
+            return new And(and.isArray() ? parseChildren(and) : List.of());
+        }
+        if (node.isTextual()) {
+            return parseModuleText(node.asText());
+        }
+        if (node.isObject() && node.has("moduleCode")) {
+            return parseModuleText(node.get("moduleCode").asText());
+        }
+        return new Or(List.of());
+    }
+
+    private static List<PrereqExpression> parseChildren(JsonNode arrayNode) {
+        List<PrereqExpression> children = new ArrayList<>();
+        for (JsonNode child : arrayNode) {
+            children.add(parseNode(child));
+        }
+        return children;
+    }
+
+    /**
+     * Parses a module requirement such as "CS1010", "CS1010:D" or "CS1010%:D".
+     */
+    private static PrereqExpression parseModuleText(String text) {
+        String code = text.trim();
+        String minGrade = null;
+        int colonIndex = code.indexOf(':');
+        if (colonIndex != -1) {
+            minGrade = code.substring(colonIndex + 1);
+            code = code.substring(0, colonIndex);
+        }
+
+        if (code.contains("%")) {
+            return new Wildcard(code.replace("%", ""), minGrade);
+        }
+        return new ModuleRef(code, minGrade);
+    }
+
+    /**
+     * Checks if a module is a bridging course that should be ignored.
+     *
+     * @param moduleCode The module code to check.
+     * @return true if the module is a bridging module.
+     */
+    static boolean isBridgingModule(String moduleCode) {
+        return BRIDGING_MODULES.contains(moduleCode);
+    }
+
+    private static String describeAll(List<PrereqExpression> children, String separator) {
+        List<String> parts = new ArrayList<>();
+        for (PrereqExpression child : children) {
+            String part = child.describe();
+            if (!part.isEmpty()) {
+                parts.add(part);
+            }
+        }
+        return parts.isEmpty() ? "" : "(" + String.join(separator, parts) + ")";
+    }
+
+    private static JsonNode wrapChildren(String operator, List<PrereqExpression> children) {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        ArrayNode array = node.putArray(operator);
+        children.forEach(child -> array.add(child.toJson()));
+        return node;
+    }
+
+    private static String withGrade(String moduleCode, String minGrade) {
+        return minGrade == null ? moduleCode : moduleCode + ":" + minGrade;
+    }
+}
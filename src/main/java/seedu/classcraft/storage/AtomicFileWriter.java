@@ -0,0 +1,67 @@
+package seedu.classcraft.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Replaces files without ever leaving them half-written.
+ * The new content is written to a temporary file next to the target, forced to disk,
+ * and then renamed over the target, so after a crash the file holds either the old or the new content.
+ * Each write uses a temporary file of its own, so writers never share one.
+ */
+final class AtomicFileWriter {
+    private AtomicFileWriter() {
+    }
+
+    /**
+     * Atomically replaces a file with the given lines, each followed by a line separator.
+     *
+     * @param file  The file to write.
+     * @param lines The lines to write.
+     * @throws IOException If the file cannot be written.
+     */
+    static void write(Path file, List<String> lines) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String line : lines) {
+            content.append(line).append(System.lineSeparator());
+        }
+        write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Atomically replaces a file with the given bytes.
+     *
+     * @param file    The file to write.
+     * @param content The bytes to write.
+     * @throws IOException If the file cannot be written.
+     */
+    static void write(Path file, byte[] content) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.classcraft.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts the lines of the text data file to and from a compact binary snapshot, losslessly
+ * for any valid data file.
+ * A snapshot holds a header and format version, the number of semesters and the current semester,
+ * followed by the length-prefixed module code records of each semester and of the exempted modules.
+ * Completed semesters are not stored separately, as they are exactly the semesters before the current one.
+ */
+final class BinaryPlanCodec {
+    static final int MAGIC = 0x43435053; // "CCPS"
+    static final short FORMAT_VERSION = 1;
+
+    private static final String COMPLETED_MARK = ":COMPLETED";
+    private static final String EXEMPTED_HEADER = "EXEMPTED";
+    private static final String[] STATUSES = {"COMPLETED", "EXEMPTED"};
+
+    private BinaryPlanCodec() {
+    }
+
+    /**
+     * Encodes the lines of a text data file as a binary snapshot.
+     *
+     * @param lines The lines of the data file: one per semester, then the EXEMPTED line.
+     * @return The binary snapshot.
+     * @throws IOException If the lines are not a valid data file.
+     */
+    static byte[] encode(List<String> lines) throws IOException {
+        if (lines.isEmpty() || !lines.get(lines.size() - 1).trim().startsWith(EXEMPTED_HEADER)) {
+            throw new IOException("Data file does not end with an EXEMPTED line.");
+        }
+
+        int semesterCount = lines.size() - 1;
+        int completedCount = 0;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeByte(semesterCount);
+        for (int i = 0; i < semesterCount; i++) {
+            if (splitLine(lines.get(i))[0].contains(COMPLETED_MARK)) {
+                completedCount++;
+            }
+        }
+        out.writeByte(completedCount + 1);
+
+        for (int i = 0; i < semesterCount; i++) {
+            List<String> moduleCodes = splitModules(splitLine(lines.get(i))[1]);
+            out.writeShort(moduleCodes.size());
+            for (String moduleCode : moduleCodes) {
+                writeCode(out, moduleCode);
+            }
+        }
+
+        List<String> exemptedModules = splitModules(splitLine(lines.get(semesterCount))[1]);
+        out.writeShort(exemptedModules.size());
+        for (String exemptedModule : exemptedModules) {
+            String[] parts = exemptedModule.split(":");
+            if (parts.length != 2) {
+                throw new IOException("Exempted module has no status: " + exemptedModule);
+            }
+            writeCode(out, parts[0]);
+            out.writeByte(statusIndex(parts[1]));
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a binary snapshot into the lines of the equivalent text data file.
+     *
+     * @param buffer The binary snapshot.
+     * @return The lines of the data file.
+     * @throws IOException If the snapshot is not in a supported format.
+     */
+    static List<String> decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a ClassCraft study plan snapshot.");
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported study plan snapshot version: " + version);
+            }
+
+            int semesterCount = buffer.get();
+            int currentSemester = buffer.get();
+            List<String> lines = new ArrayList<>();
+            for (int semester = 1; semester <= semesterCount; semester++) {
+                StringBuilder line = new StringBuilder();
+                line.append(semester).append(semester < currentSemester ? COMPLETED_MARK + " -" : " -");
+                int moduleCount = buffer.getShort();
+                for (int i = 0; i < moduleCount; i++) {
+                    line.append(" ").append(readCode(buffer)).append(",");
+                }
+                lines.add(line.toString());
+            }
+
+            StringBuilder exemptedLine = new StringBuilder(EXEMPTED_HEADER + " -");
+            int exemptedCount = buffer.getShort();
+            for (int i = 0; i < exemptedCount; i++) {
+                String moduleCode = readCode(buffer);
+                exemptedLine.append(" ").append(moduleCode).append(":").append(STATUSES[buffer.get()]).append(",");
+            }
+            lines.add(exemptedLine.toString());
+            return lines;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException("Study plan snapshot is truncated or corrupt.");
+        }
+    }
+
+    private static String[] splitLine(String line) throws IOException {
+        String[] parts = line.split("-", 2);
+        if (parts.length != 2) {
+            throw new IOException("Data file line is missing a dash: " + line);
+        }
+        return parts;
+    }
+
+    private static List<String> splitModules(String modules) {
+        List<String> moduleCodes = new ArrayList<>();
+        for (String module : modules.split(",")) {
+            if (!module.trim().isEmpty()) {
+                moduleCodes.add(module.trim());
+            }
+        }
+        return moduleCodes;
+    }
+
+    private static int statusIndex(String status) throws IOException {
+        for (int i = 0; i < STATUSES.length; i++) {
+            if (STATUSES[i].equals(status)) {
+                return i;
+            }
+        }
+        throw new IOException("Unknown module status: " + status);
+    }
+
+    private static void writeCode(DataOutputStream out, String moduleCode) throws IOException {
+        byte[] code = moduleCode.getBytes(StandardCharsets.UTF_8);
+        if (code.length > Byte.MAX_VALUE) {
+            throw new IOException("Module code is too long: " + moduleCode);
+        }
+        out.writeByte(code.length);
+        out.write(code);
+    }
+
+    private static String readCode(ByteBuffer buffer) {
+        byte[] code = new byte[buffer.get()];
+        buffer.get(code);
+        return new String(code, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.classcraft.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import seedu.classcraft.exceptions.NUSmodsFetcherException;
+import seedu.classcraft.nusmodsfetcher.ModuleInfo;
+import seedu.classcraft.prerequisite.PrereqExpression;
+
+/**
+ * The module data saved alongside the study plan, so that the plan can be restored without NUSMods.
+ * The content hash covers every other field, so an entry that was edited or damaged on disk is detected,
+ * and an entry whose module has since changed on NUSMods hashes differently from the fresh data.
+ *
+ * @param moduleCode       The module code.
+ * @param title            The title of the module.
+ * @param moduleCredit     The number of module credits.
+ * @param description      The description of the module.
+ * @param semesterOffered  The semester(s) the module is offered in, as returned by {@link ModuleInfo}.
+ * @param prereqExpression The prerequisites of the module, or null if it has none.
+ * @param hash             The content hash of the other fields.
+ */
+record ModuleMetadata(String moduleCode, String title, int moduleCredit, String description, int semesterOffered,
+                      PrereqExpression prereqExpression, String hash) {
+
+    /**
+     * Creates an entry from module data, computing its content hash.
+     */
+    static ModuleMetadata of(String moduleCode, String title, int moduleCredit, String description,
+                             int semesterOffered, PrereqExpression prereqExpression) {
+        return new ModuleMetadata(moduleCode, title, moduleCredit, description, semesterOffered, prereqExpression,
+                hash(moduleCode, title, moduleCredit, description, semesterOffered, prereqExpression));
+    }
+
+    /**
+     * Creates an entry from module data fetched from NUSMods.
+     *
+     * @param moduleCode The module code the data was fetched for.
+     * @param moduleInfo The fetched module data.
+     * @return The entry.
+     * @throws NUSmodsFetcherException If the semester data of the module could not be parsed.
+     */
+    static ModuleMetadata of(String moduleCode, ModuleInfo moduleInfo) throws NUSmodsFetcherException {
+        return of(moduleCode, moduleInfo.getTitle(), moduleInfo.getModuleCredit(),
+                moduleInfo.getDescription(), moduleInfo.getSemesterOffered(), moduleInfo.getPrereqExpression());
+    }
+
+    /**
+     * Checks that the entry still matches its content hash.
+     *
+     * @return true if none of the fields have changed since the entry was created.
+     */
+    boolean isIntact() {
+        return hash(moduleCode, title, moduleCredit, description, semesterOffered, prereqExpression).equals(hash);
+    }
+
+    private static String hash(String moduleCode, String title, int moduleCredit, String description,
+                               int semesterOffered, PrereqExpression prereqExpression) {
+        String prereqTree = prereqExpression == null ? "" : prereqExpression.toJson().toString();
+        String content = String.join("\u0000", moduleCode, title, String.valueOf(moduleCredit), description,
+                String.valueOf(semesterOffered), prereqTree);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.classcraft.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import seedu.classcraft.prerequisite.PrereqExpression;
+
+/**
+ * Versioned file of module metadata kept next to the study plan file, e.g. studyPlan.txt.meta.
+ * The file holds one entry per module in the plan, so the plan can be restored without NUSMods.
+ * Files written in another format version are ignored, and their modules are fetched again.
+ */
+class ModuleMetadataStore {
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = Logger.getLogger(ModuleMetadataStore.class.getName());
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final Path metadataFile;
+    private final Map<String, ModuleMetadata> entries = new LinkedHashMap<>();
+    private boolean isDirty = false;
+
+    ModuleMetadataStore(Path metadataFile) {
+        this.metadataFile = metadataFile;
+    }
+
+    /**
+     * Loads the entries from the metadata file, replacing any held in memory.
+     * A missing, unreadable or outdated file leaves the store empty.
+     */
+    synchronized void load() {
+        entries.clear();
+        isDirty = false;
+        if (!Files.exists(metadataFile)) {
+            return;
+        }
+
+        try {
+            JsonNode root = mapper.readTree(metadataFile.toFile());
+            if (root == null || root.path("version").asInt() != FORMAT_VERSION) {
+                logger.log(Level.INFO, "Ignoring module metadata in an unsupported format: " + metadataFile);
+                return;
+            }
+            for (JsonNode node : root.path("modules")) {
+                ModuleMetadata entry = fromJson(node);
+                entries.put(entry.moduleCode(), entry);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to read module metadata: " + e.getMessage());
+            entries.clear();
+        }
+    }
+
+    /**
+     * Looks up the entry of a module, leaving out entries that no longer match their content hash.
+     *
+     * @param moduleCode The module code.
+     * @return The entry, or null if there is no intact entry for the module.
+     */
+    synchronized ModuleMetadata get(String moduleCode) {
+        ModuleMetadata entry = entries.get(moduleCode);
+        if (entry == null || !entry.isIntact()) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Adds or replaces the entry of a module. The change is written on the next {@link #save()}.
+     *
+     * @param entry The entry to store.
+     */
+    synchronized void put(ModuleMetadata entry) {
+        ModuleMetadata previous = entries.put(entry.moduleCode(), entry);
+        if (previous == null || !previous.hash().equals(entry.hash())) {
+            isDirty = true;
+        }
+    }
+
+    /**
+     * Drops the entries of modules that are no longer in the study plan.
+     *
+     * @param moduleCodes The codes of the modules in the study plan.
+     */
+    synchronized void retainOnly(Collection<String> moduleCodes) {
+        if (entries.keySet().retainAll(moduleCodes)) {
+            isDirty = true;
+        }
+    }
+
+    /**
+     * Writes the entries to the metadata file atomically, if any have changed since the last load or save.
+     */
+    synchronized void save() {
+        if (!isDirty) {
+            return;
+        }
+
+        ObjectNode root = mapper.createObjectNode();
+        root.put("version", FORMAT_VERSION);
+        ArrayNode modules = root.putArray("modules");
+        for (ModuleMetadata entry : entries.values()) {
+            modules.add(toJson(entry));
+        }
+
+        try {
+            AtomicFileWriter.write(metadataFile, mapper.writeValueAsBytes(root));
+            isDirty = false;
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to save module metadata: " + e.getMessage());
+        }
+    }
+
+    private static ObjectNode toJson(ModuleMetadata entry) {
+        ObjectNode node = mapper.createObjectNode();
+        node.put("moduleCode", entry.moduleCode());
+        node.put("title", entry.title());
+        node.put("moduleCredit", entry.moduleCredit());
+        node.put("description", entry.description());
+        node.put("semesterOffered", entry.semesterOffered());
+        if (entry.prereqExpression() != null) {
+            node.set("prereqTree", entry.prereqExpression().toJson());
+        }
+        node.put("hash", entry.hash());
+        return node;
+    }
+
+    private static ModuleMetadata fromJson(JsonNode node) {
+        return new ModuleMetadata(node.path("moduleCode").asText(), node.path("title").asText(),
+                node.path("moduleCredit").asInt(), node.path("description").asText(),
+                node.path("semesterOffered").asInt(), PrereqExpression.fromJson(node.get("prereqTree")),
+                node.path("hash").asText());
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.classcraft.storage;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Read-write lock over one data file, held both within this process and across processes.
+ * Threads in this process are coordinated by a {@link ReentrantReadWriteLock}. The first holder in this
+ * process also takes a {@link FileLock} on a lock file next to the data file, shared for readers and
+ * exclusive for writers, which the last holder releases. Writers may nest; a reader must not try to write.
+ * There is one lock per lock file in this process, as the JVM does not allow one file to be locked twice.
+ */
+class PlanFileLock {
+    private static final Logger logger = Logger.getLogger(PlanFileLock.class.getName());
+    private static final Map<Path, PlanFileLock> locks = new ConcurrentHashMap<>();
+
+    private final Path lockFile;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private FileChannel channel;
+    private FileLock fileLock;
+    private int holderCount = 0;
+
+    /**
+     * Releases a lock taken with {@link #lockShared()} or {@link #lockExclusive()}.
+     */
+    interface Handle extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private PlanFileLock(Path lockFile) {
+        this.lockFile = lockFile;
+    }
+
+    /**
+     * Returns the lock over the given lock file, shared by every caller in this process.
+     *
+     * @param lockFile The lock file, which is created when first locked.
+     * @return The lock.
+     */
+    static PlanFileLock forFile(Path lockFile) {
+        return locks.computeIfAbsent(lockFile.toAbsolutePath().normalize(), PlanFileLock::new);
+    }
+
+    /**
+     * Takes the lock for reading, alongside any other readers.
+     *
+     * @return The handle to release the lock with.
+     * @throws IOException If the lock file cannot be locked.
+     */
+    Handle lockShared() throws IOException {
+        return acquire(lock.readLock(), true);
+    }
+
+    /**
+     * Takes the lock for writing, waiting for every other reader and writer to finish.
+     *
+     * @return The handle to release the lock with.
+     * @throws IOException If the lock file cannot be locked.
+     */
+    Handle lockExclusive() throws IOException {
+        return acquire(lock.writeLock(), false);
+    }
+
+    private Handle acquire(Lock processLock, boolean isShared) throws IOException {
+        processLock.lock();
+        try {
+            acquireFileLock(isShared);
+        } catch (IOException | RuntimeException e) {
+            processLock.unlock();
+            throw e;
+        }
+        return () -> {
+            releaseFileLock();
+            processLock.unlock();
+        };
+    }
+
+    private synchronized void acquireFileLock(boolean isShared) throws IOException {
+        if (holderCount > 0) {
+            // Another holder in this process already has a compatible file lock
+            holderCount++;
+            return;
+        }
+        FileChannel newChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            fileLock = newChannel.lock(0, Long.MAX_VALUE, isShared);
+        } catch (IOException e) {
+            newChannel.close();
+            throw e;
+        }
+        channel = newChannel;
+        holderCount = 1;
+    }
+
+    private synchronized void releaseFileLock() {
+        if (--holderCount > 0) {
+            return;
+        }
+        try {
+            fileLock.release();
+            channel.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to release the lock on " + lockFile + ": " + e.getMessage());
+        }
+        fileLock = null;
+        channel = null;
+    }
+}
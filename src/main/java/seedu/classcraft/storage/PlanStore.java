@@ -0,0 +1,84 @@
+package seedu.classcraft.storage;
+
+import seedu.classcraft.studyplan.Module;
+import seedu.classcraft.studyplan.StudyPlan;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Persists the study plan of one user.
+ * {@link Storage} keeps a plan in a single data file; {@link ShardedPlanStore} hands out one such store
+ * per user for a whole cohort.
+ */
+public interface PlanStore {
+
+    /**
+     * Records that a module has been planned in a semester.
+     *
+     * @param moduleCode The module code.
+     * @param semester   The semester number (1-based).
+     */
+    void appendToFile(String moduleCode, int semester);
+
+    /**
+     * Records that several modules have been planned, in a single write.
+     *
+     * @param moduleSemesters The semester number (1-based) of each module, keyed by module code.
+     * @throws IOException If the modules could not be recorded, in which case none of them is.
+     */
+    void appendModules(Map<String, Integer> moduleSemesters) throws IOException;
+
+    /**
+     * Records that a module is no longer planned in a semester.
+     *
+     * @param moduleToDelete The module code.
+     * @param semester       The semester number (1-based).
+     */
+    void deleteModule(String moduleToDelete, int semester);
+
+    /**
+     * Records the current semester, marking every semester before it as completed.
+     *
+     * @param semester The new current semester (1-based).
+     */
+    void addCompletionStatus(int semester);
+
+    /**
+     * Records that a module has been completed or exempted.
+     *
+     * @param module The module, with its COMPLETED or EXEMPTED status.
+     */
+    void saveSecuredModule(Module module);
+
+    /**
+     * Records that a module is no longer completed or exempted.
+     *
+     * @param moduleToDelete The module code.
+     */
+    void deleteSecuredModule(String moduleToDelete);
+
+    /**
+     * Restores the saved study plan.
+     *
+     * @param storage The store to record any changes made while restoring with.
+     * @return The restored study plan.
+     */
+    StudyPlan restoreData(PlanStore storage);
+
+    /**
+     * Switches to saving each change as one journal record instead of rewriting the saved plan.
+     * Stores without a journal ignore this.
+     */
+    default void enableJournal() {
+    }
+
+    /**
+     * Sets how long changes may wait before being written, so that several quick changes are written together.
+     * Stores that always write immediately ignore this.
+     *
+     * @param windowMillis The group-commit window in milliseconds, 0 to write every change immediately.
+     */
+    default void setGroupCommitWindow(long windowMillis) {
+    }
+}
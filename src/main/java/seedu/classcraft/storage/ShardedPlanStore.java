@@ -0,0 +1,57 @@
+package seedu.classcraft.storage;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the study plans of many users, each in its own data file.
+ * The files are spread over a fixed number of shard directories by a hash of the user ID,
+ * e.g. users/2a/alice.txt, so that no single directory grows with the whole cohort.
+ * Each user's {@link Storage} locks its own file, so different users never wait on each other.
+ */
+public class ShardedPlanStore {
+    static final int SHARD_COUNT = 64;
+
+    private static final Pattern USER_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final Path rootDirectory;
+    private final String fileExtension;
+    private final Map<String, PlanStore> stores = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a store that keeps the users' data files under the given directory.
+     *
+     * @param rootDirectory The directory holding the shard directories.
+     * @param fileExtension The extension of the data files, ".txt" or ".bin".
+     */
+    public ShardedPlanStore(Path rootDirectory, String fileExtension) {
+        assert rootDirectory != null : "Root directory cannot be null.";
+        this.rootDirectory = rootDirectory;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the store of a user's study plan, creating the user's data file if needed.
+     * Every call for the same user returns the same store.
+     *
+     * @param userId The user ID, made of 1 to 64 letters, digits, underscores or dashes.
+     * @return The store of the user's study plan.
+     * @throws IllegalArgumentException If the user ID is not valid.
+     */
+    public PlanStore forUser(String userId) {
+        if (userId == null || !USER_ID_PATTERN.matcher(userId).matches()) {
+            throw new IllegalArgumentException("Invalid user ID: " + userId);
+        }
+        return stores.computeIfAbsent(userId, id -> new Storage(getPlanFile(id).toString()));
+    }
+
+    /**
+     * Returns the data file of a user's study plan.
+     */
+    Path getPlanFile(String userId) {
+        String shard = String.format("%02x", Math.floorMod(userId.hashCode(), SHARD_COUNT));
+        return rootDirectory.resolve(shard).resolve(userId + fileExtension);
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.classcraft.storage;
 
+import seedu.classcraft.exceptions.NUSmodsFetcherException;
 import seedu.classcraft.exceptions.StudyPlanException;
+import seedu.classcraft.nusmodsfetcher.ModuleInfo;
+import seedu.classcraft.nusmodsfetcher.NUSmodsFetcher;
 import seedu.classcraft.studyplan.ModuleHandler;
 import seedu.classcraft.studyplan.ModuleStatus;
 import seedu.classcraft.studyplan.PrerequisiteChecker;
@@ -10,15 +13,26 @@ import seedu.classcraft.ui.Ui;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -27,14 +41,32 @@ import java.util.logging.Level;
  * storing and retrieving study plan data.
  * A storage object is initialized with a file path where the data is stored.
  */
-public class Storage {
+public class Storage implements PlanStore {
+
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 64;
+    private static final String BINARY_EXTENSION = ".bin";
+    private static final String TEXT_EXTENSION = ".txt";
+    private static final ScheduledExecutorService BACKGROUND_WRITER =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "storage-background-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
 
     private static Logger logger = Logger.getLogger(Storage.class.getName());
-    StudyPlan tempStudyPlan = new StudyPlan(8);
     private String dataFile;
     private Ui ui = new Ui();
     private StudyPlan studyPlan;
     private ModuleHandler moduleHandler = new ModuleHandler();
+    private final StorageJournal journal;
+    private final ModuleMetadataStore metadataStore;
+    private final PlanFileLock fileLock;
+    private CompletableFuture<Void> metadataRefresh = CompletableFuture.completedFuture(null);
+    private final AtomicBoolean isCompactionPending = new AtomicBoolean(false);
+    private boolean isJournalEnabled = false;
+    private long groupCommitWindowMillis = 0;
+    private final List<Consumer<List<String>>> pendingEdits = new ArrayList<>(); // edits for group commit
+    private boolean isFlushScheduled = false;
 
     /**
      * Constructor for Storage class.
@@ -47,6 +79,10 @@ public class Storage {
         setLoggerLevel();
         assert dataFile != null : "Data file path cannot be null.";
         this.dataFile = dataFile;
+        this.journal = new StorageJournal(Paths.get(dataFile + ".journal"));
+        this.metadataStore = new ModuleMetadataStore(Paths.get(dataFile + ".meta"));
+        this.fileLock = PlanFileLock.forFile(Paths.get(dataFile + ".lock"));
+        importTextFile();
         createFile();
     }
 
@@ -54,29 +90,72 @@ public class Storage {
      * Appends a module code to the specified semester in the data file.
      * Reads all lines from the file, updates the line for the given semester,
      * and writes the updated lines back to the file.
+     * In journal mode, only an ADD record is appended to the journal.
      *
      * @param moduleCode The module code to append.
      * @param semester   The semester number (1-8) to which the module code should be appended.
      */
+    @Override
     public void appendToFile(String moduleCode, int semester) {
-        Path filePath = Paths.get(dataFile);
+        if (isJournalEnabled) {
+            appendToJournal(StorageJournal.ADD, moduleCode, String.valueOf(semester));
+            return;
+        }
         try {
-            List<String> lines = Files.readAllLines(filePath);
-            String line = lines.get(semester - 1);
-            String updatedLine = line.concat(" " + moduleCode + ",");
-            lines.set(semester - 1, updatedLine);
-            Files.write(filePath, lines);
+            updateFile(lines -> addModuleLine(lines, moduleCode, semester));
         } catch (IOException e) {
             System.out.println("Oh no! I was not able to update the file: " + e.getMessage());
         }
 
     }
 
+    /**
+     * Appends several module codes to their semesters in the data file with a single atomic write.
+     * In journal mode, the journal is folded into the data file first, so that the modules are
+     * recorded together rather than as separate journal records. In group-commit mode, the write is
+     * not deferred, so the modules are on disk once this returns.
+     *
+     * @param moduleSemesters The semester number (1-8) of each module, keyed by module code.
+     * @throws IOException If the data file could not be written, in which case none of the modules is recorded.
+     */
+    @Override
+    public synchronized void appendModules(Map<String, Integer> moduleSemesters) throws IOException {
+        if (isJournalEnabled) {
+            compactJournal();
+        }
+        writePendingEdits(lines -> moduleSemesters.forEach((moduleCode, semester) ->
+                addModuleLine(lines, moduleCode, semester)));
+    }
+
+    /**
+     * Converts an existing text data file into a new binary data file of the same name,
+     * so that switching to the binary format keeps the saved plan.
+     */
+    private void importTextFile() {
+        Path filePath = Paths.get(dataFile);
+        if (!isBinaryFile(filePath) || Files.exists(filePath)) {
+            return;
+        }
+        String fileName = filePath.getFileName().toString();
+        Path textFile = filePath.resolveSibling(
+                fileName.substring(0, fileName.length() - BINARY_EXTENSION.length()) + TEXT_EXTENSION);
+        if (!Files.exists(textFile)) {
+            return;
+        }
+        try (PlanFileLock.Handle ignored = fileLock.lockExclusive()) {
+            convert(textFile, filePath);
+            logger.log(Level.INFO, "Converted " + textFile + " to the binary format.");
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to convert " + textFile + ": " + e.getMessage());
+        }
+    }
+
     /**
      * Method to create a file at the specified file path.
      * If the parent directory does not exist, it creates the necessary directories.
      * If the file is created successfully, it initializes the file with
      * semester headers from 1 to 8.
+     * Like every other write to the data file, the headers are written atomically.
      */
     public void createFile() {
         File f = new File(dataFile);
@@ -92,18 +171,16 @@ public class Storage {
             }
         }
 
-        try {
+        try (PlanFileLock.Handle ignored = fileLock.lockExclusive()) {
             if (f.createNewFile()) {
                 System.out.println("Yay! A file has been created successfully.");
-                try (BufferedWriter bw = new BufferedWriter(new FileWriter(f))) {
-                    logger.log(Level.INFO, "Initializing new data file with semester headers.");
-                    for (int i = 1; i <= 8; i++) {
-                        bw.write(i + " -");
-                        bw.newLine();
-                    }
-                    bw.write("EXEMPTED -");
-                    bw.newLine();
+                logger.log(Level.INFO, "Initializing new data file with semester headers.");
+                List<String> lines = new ArrayList<>();
+                for (int i = 1; i <= 8; i++) {
+                    lines.add(i + " -");
                 }
+                lines.add("EXEMPTED -");
+                writeLines(f.toPath(), lines);
 
             }
         } catch (IOException e) {
@@ -116,20 +193,19 @@ public class Storage {
      * Deletes a module code from the specified semester in the data file.
      * Reads all lines from the file, updates the line for the given semester, by
      * removing the specified module code, and writes the updated lines back to the file.
+     * In journal mode, only a DELETE record is appended to the journal.
      *
      * @param moduleToDelete The module code to delete.
      * @param semester       The semester number (1-8) from which the module code should be deleted.
      */
+    @Override
     public void deleteModule(String moduleToDelete, int semester) {
+        if (isJournalEnabled) {
+            appendToJournal(StorageJournal.DELETE, moduleToDelete, String.valueOf(semester));
+            return;
+        }
         try {
-            Path filePath = Paths.get(dataFile);
-            List<String> lines = Files.readAllLines(filePath);
-            assert semester >= 1 && semester <= lines.size() : "Semester number out of bounds.";
-            String line = lines.get(semester - 1);
-            String updatedLine = line.replace(" " + moduleToDelete + ",", "");
-            logger.log(Level.INFO, " Updated line after deletion." + updatedLine);
-            lines.set(semester - 1, updatedLine);
-            Files.write(filePath, lines);
+            updateFile(lines -> deleteModuleLine(lines, moduleToDelete, semester));
         } catch (IOException e) {
             System.out.println("Oh no! I was not able to update the file: " + e.getMessage());
         }
@@ -137,24 +213,34 @@ public class Storage {
     }
 
     /**
-     * Restores study plan data from the data file.
-     * Pass 1: Loads EXEMPTED modules (prerequisites)
-     * Pass 2: Loads PLANNED modules (semesters)
+     * Restores study plan data from the data file in a single pass.
+     * Any records left in the journal are folded into the file first.
+     * The file is read once and every module in it is fetched in one concurrent batch.
+     * The modules are then validated and added to the study plan as each line is checked,
+     * EXEMPTED modules (prerequisites) first and PLANNED modules (semesters) after.
+     * If the file turns out to be invalid, it is recreated and an empty study plan is returned.
      *
      * @param storage The storage handler to read/write data.
      * @return A StudyPlan object populated with the restored data.
      */
-    public StudyPlan restoreData(Storage storage) {
+    @Override
+    public StudyPlan restoreData(PlanStore storage) {
         int totalSemesters = 8;
         studyPlan = new StudyPlan(totalSemesters);
         Path filePath = Paths.get(dataFile);
 
         try {
-            if (isFileFormatInvalid(filePath)) {
+            flush();
+            compactJournal();
+            List<String> lines;
+            try (PlanFileLock.Handle ignored = fileLock.lockShared()) {
+                lines = readLines(filePath);
+            }
+            prefetchModules(lines);
+            if (isFileFormatInvalid(lines, storage)) {
                 recreateFile(filePath);
                 return new StudyPlan(totalSemesters);
             }
-            populateStudyPlan(storage, studyPlan);
             System.out.println("Data restored successfully from " + dataFile);
         } catch (IOException e) {
             logger.log(Level.WARNING, "Failed to read the data file: " + e.getMessage());
@@ -166,13 +252,110 @@ public class Storage {
         return studyPlan;
     }
 
-    private boolean isFileFormatInvalid(Path filePath) {
+    /**
+     * Creates every module found in the data file. Modules with intact saved metadata are created
+     * from it without any network access; the rest are fetched in one concurrent batch,
+     * so that restoring the plan does not wait on one request per module, and their metadata is saved.
+     *
+     * @param lines The lines of the data file.
+     */
+    private void prefetchModules(List<String> lines) {
+        Set<String> moduleCodes = new LinkedHashSet<>();
+        for (String line : lines) {
+            String[] parts = line.split("-", 2);
+            if (parts.length != 2) {
+                continue;
+            }
+            for (String module : parts[1].split(",")) {
+                String moduleCode = module.split(":")[0].trim().toUpperCase();
+                if (moduleCode.matches("^[A-Z0-9]+$")) {
+                    moduleCodes.add(moduleCode);
+                }
+            }
+        }
+
+        metadataStore.load();
+        List<String> restoredCodes = new ArrayList<>();
+        List<String> missingCodes = new ArrayList<>();
+        for (String moduleCode : moduleCodes) {
+            ModuleMetadata entry = metadataStore.get(moduleCode);
+            if (entry == null) {
+                missingCodes.add(moduleCode);
+                continue;
+            }
+            moduleHandler.restoreModule(moduleCode, entry.title(), entry.moduleCredit(), entry.description(),
+                    entry.semesterOffered(), entry.prereqExpression());
+            restoredCodes.add(moduleCode);
+        }
+
+        if (!missingCodes.isEmpty()) {
+            for (Module module : moduleHandler.createModules(missingCodes).values()) {
+                metadataStore.put(ModuleMetadata.of(module.getModCode(), module.getModName(), module.getModCreds(),
+                        module.getModDescription(), module.getSemesterOffered(), module.getPrereqExpression()));
+            }
+        }
+        metadataStore.retainOnly(moduleCodes);
+        saveMetadata();
+        refreshMetadataInBackground(restoredCodes);
+    }
+
+    /**
+     * Fetches modules that were restored from the saved metadata, and saves the metadata of any module
+     * whose content hash no longer matches NUSMods. The study plan in use keeps the saved data;
+     * the fresh data is used from the next restore.
+     *
+     * @param moduleCodes The codes of the modules restored from the saved metadata.
+     */
+    private void refreshMetadataInBackground(List<String> moduleCodes) {
+        if (moduleCodes.isEmpty()) {
+            return;
+        }
+        metadataRefresh = NUSmodsFetcher.fetchAllAsync(moduleCodes).thenAccept(fetchedModules -> {
+            for (Map.Entry<String, ModuleInfo> fetched : fetchedModules.entrySet()) {
+                try {
+                    metadataStore.put(ModuleMetadata.of(fetched.getKey(), fetched.getValue()));
+                } catch (NUSmodsFetcherException e) {
+                    logger.log(Level.WARNING, "Could not refresh metadata of " + fetched.getKey() + ": "
+                            + e.getMessage());
+                }
+            }
+            saveMetadata();
+        });
+    }
+
+    /**
+     * Saves the module metadata under the exclusive file lock, so that other processes or storage
+     * instances sharing the plan never write the metadata file at the same time.
+     */
+    private void saveMetadata() {
+        try (PlanFileLock.Handle ignored = fileLock.lockExclusive()) {
+            metadataStore.save();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to save module metadata: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns a module for the given code, from the shared module registry if it was already fetched.
+     */
+    private Module getOrCreateModule(String moduleCode) throws Exception {
+        return moduleHandler.createModule(moduleCode);
+    }
+
+    /**
+     * Validates the lines of the data file, adding each module to the study plan once it has been checked.
+     * Sets the current semester from the completed semesters once the whole file is found to be valid.
+     *
+     * @param lines   The lines of the data file.
+     * @param storage The storage handler to read/write data.
+     * @return true if the file format is invalid.
+     */
+    private boolean isFileFormatInvalid(List<String> lines, PlanStore storage) {
         int actualNoLines = 9;
         int numberCompletedSem = 0;
         int lastCompletedSem = 0;
         int firstCompletedSem = 0;
         try {
-            List<String> lines = Files.readAllLines(filePath);
             if (lines.size() != actualNoLines) {
                 ui.showMessage("File has incorrect number of lines.\n" +
                         "File format is invalid. Recreating a new file.");
@@ -188,6 +371,7 @@ public class Storage {
             }
 
             String[] modules = restorationPartsStore[1].split(",");
+            List<Module> exemptedModules = new ArrayList<>();
             for (String module : modules) {
                 module = module.trim();
                 if (module.isEmpty()) {
@@ -220,9 +404,8 @@ public class Storage {
                         return true;
                     }
 
-                    Module tempModule = moduleHandler.createModule(moduleCode);
-                    com.fasterxml.jackson.databind.JsonNode prereqTree = tempModule.getPrereqTree();
-                    if (!(prereqTree == null || prereqTree.isNull() || prereqTree.isMissingNode())) {
+                    Module tempModule = getOrCreateModule(moduleCode);
+                    if (tempModule.hasPrereqs()) {
                         ui.showMessage("Exempted module '" + moduleCode + "' has prerequisites.\n" +
                                 "File format is invalid. Recreating a new file.");
                         return true;
@@ -230,13 +413,8 @@ public class Storage {
 
                     ModuleStatus status = parts.length > 1 ? ModuleStatus.valueOf(parts[1]) :
                             ModuleStatus.PLANNED;
-                    tempStudyPlan.addExemptedModule(moduleCode, status, this, true);
-                } catch (StudyPlanException e) {
-                    // Catch StudyPlanException (e.g., module with prerequisites)
-                    ui.showMessage("Exempted module '" + module + "' is invalid.\n" +
-                            "File format is invalid. Recreating a new file.");
-                    logger.log(Level.WARNING, "Invalid exempted module: " + e.getMessage());
-                    return true;
+                    tempModule.setStatus(status);
+                    exemptedModules.add(tempModule);
                 } catch (Exception e) {
                     ui.showMessage("Failed to restore exempted module ");
                     logger.log(Level.WARNING, "Failed to restore exempted module "
@@ -245,6 +423,15 @@ public class Storage {
                 }
 
             }
+            try {
+                studyPlan.restoreExemptedModules(exemptedModules);
+            } catch (StudyPlanException e) {
+                // Catch StudyPlanException (e.g., module with prerequisites)
+                ui.showMessage("Exempted modules are invalid.\n" +
+                        "File format is invalid. Recreating a new file.");
+                logger.log(Level.WARNING, "Invalid exempted module: " + e.getMessage());
+                return true;
+            }
 
             for (int i = 0; i < actualNoLines - 2; i++) {
                 String line = lines.get(i);
@@ -294,19 +481,18 @@ public class Storage {
 
 
                 String[] modulesNonExempted = restorationParts[1].split(",");
+                List<Module> semesterModules = new ArrayList<>();
                 for (String module : modulesNonExempted) {
                     module = module.trim();
                     if (!module.isEmpty()) {
-                        Module newModule = moduleHandler.createModule(module);
-                        PrerequisiteChecker.validatePrerequisites(newModule,
-                                actualSemester, tempStudyPlan, true);
-                        if (!PrerequisiteChecker.isPrereqRestoreSatisfied()) {
+                        Module newModule = getOrCreateModule(module);
+                        if (!PrerequisiteChecker.arePrerequisitesSatisfied(newModule, actualSemester, studyPlan)) {
                             ui.showMessage("Module code '" + module + "' in line " + (i + 1) +
                                     " has invalid prerequisites.\n" +
                                     "File format is invalid. Recreating a new file.");
                             return true;
                         }
-                        tempStudyPlan.addModule(newModule, actualSemester);
+                        semesterModules.add(newModule);
                     }
 
                     if (module.split(" ").length > 1) {
@@ -316,6 +502,8 @@ public class Storage {
                         return true;
                     }
                 }
+                // Prerequisites lie in earlier semesters, so a semester's modules are added together
+                studyPlan.restoreModules(semesterModules, actualSemester);
 
                 if (semesterInfo.contains("COMPLETED")) {
                     numberCompletedSem++;
@@ -329,11 +517,7 @@ public class Storage {
             }
 
 
-            if (numberCompletedSem <= 0) {
-                return false;
-            }
-
-            for (int j = firstCompletedSem; j <= lastCompletedSem; j++) {
+            for (int j = firstCompletedSem; numberCompletedSem > 0 && j <= lastCompletedSem; j++) {
                 if (!lines.get(j).contains("COMPLETED")) {
                     ui.showMessage("Completed semesters are not in order.\n" +
                             "File format is invalid. Recreating a new file.");
@@ -341,156 +525,44 @@ public class Storage {
                 }
             }
 
-        } catch (IOException e) {
-            logger.log(Level.WARNING, "File format is incorrect " + e.getMessage());
-            ui.showMessage("Oh no! I was not able to read the file: " + e.getMessage() +
-                    "\nFile format is invalid. Recreating a new file.");
-            return true;
+            int currentSemester = Math.min(numberCompletedSem + 1, studyPlan.getTotalSemesters());
+            studyPlan.setCurrentSemester(currentSemester, storage, true);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
         return false;
     }
 
-    private void recreateFile(Path filePath) throws IOException {
-        Files.deleteIfExists(filePath);
-        createFile();
-    }
-
     /**
-     * Populates the StudyPlan object with data from the data file.
-     * 
-     * @param storage   The storage handler to read/write data.
-     * @param studyPlan The StudyPlan object to populate.
-     * @throws IOException
+     * Replaces an invalid data file with a new one, keeping the invalid file as a backup
+     * so that the user's plan can still be recovered by hand.
      */
-    public void populateStudyPlan(Storage storage, StudyPlan studyPlan) throws IOException {
-        Path dataFile = Paths.get(this.dataFile);
-        int countCurrentSem = 1;
-        List<String> lines = Files.readAllLines(dataFile);
-        try {
-            String lastLineStore = lines.get(8);
-            String[] restorationPartsStore = lastLineStore.split("-", 2);
-            String[] modules = restorationPartsStore[1].split(",");
-            for (String module : modules) {
-                module = module.trim();
-                if (module.isEmpty()) {
-                    continue;
-                }
-                try {
-                    String[] parts = module.split(":");
-                    String moduleCode = parts[0].toUpperCase();
-                    ModuleStatus status = parts.length > 1 ? ModuleStatus.valueOf(parts[1]) :
-                            ModuleStatus.PLANNED;
-                    studyPlan.addExemptedModule(moduleCode, status, this, true);
-                } catch (Exception e) {
-                    logger.log(Level.WARNING, "Failed to restore exempted module "
-                            + module + ": " + e.getMessage());
-                }
-
-            }
-            for (int i = 0; i < lines.size() - 1; i++) {
-                String line = lines.get(i);
-                if (!line.contains("-")) {
-                    continue;
-                }
-                String[] restorationParts = line.split("-", 2);
-                String semInfo = restorationParts[0].trim();
-                String moduleInfo = restorationParts[1].trim();
-
-                if (semInfo.equalsIgnoreCase("EXEMPTED")) {
-                    if (moduleInfo.isEmpty()) {
-                        continue;
-                    }
-                    for (String module : moduleInfo.split(",")) {
-                        module = module.trim();
-                        if (module.isEmpty()) {
-                            continue;
-                        }
-                        try {
-                            String[] parts = module.split(":");
-                            String moduleCode = parts[0].toUpperCase();
-                            ModuleStatus status = parts.length > 1 ? ModuleStatus.valueOf(parts[1]) :
-                                    ModuleStatus.PLANNED;
-                            studyPlan.addExemptedModule(moduleCode, status, storage, true);
-                        } catch (Exception e) {
-                            logger.log(Level.WARNING, "Failed to restore exempted module "
-                                    + module + ": " + e.getMessage());
-                        }
-                    }
-                } else {
-                    boolean completedFlag = false;
-                    String[] section = semInfo.split(":");
-                    if (section.length == 2) {
-                        completedFlag = true;
-                    }
-                    if (completedFlag && section[1].contains("COMPLETED")) {
-                        countCurrentSem++;
-                    }
-                    if (moduleInfo.isEmpty()) {
-                        continue;
-                    }
-                    try {
-                        int semester = Integer.parseInt(section[0].trim());
-                        for (String module : moduleInfo.split(",")) {
-                            String modCode = module.trim().toUpperCase();
-                            if (!modCode.isEmpty()) {
-                                studyPlan.addModule(modCode, semester, storage, true);
-                            }
-                        }
-                    } catch (NumberFormatException e) {
-                        logger.log(Level.WARNING, "Skipping invalid line in data file: " + line);
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            }
-            try {
-                if (countCurrentSem > StudyPlan.getTotalSemesters()) {
-                    countCurrentSem = StudyPlan.getTotalSemesters();
-                }
-                studyPlan.setCurrentSemester(countCurrentSem, storage, true);
-            } catch (StudyPlanException e) {
-                throw new IOException(e);
+    private void recreateFile(Path filePath) throws IOException {
+        try (PlanFileLock.Handle ignored = fileLock.lockExclusive()) {
+            journal.clear();
+            if (Files.exists(filePath)) {
+                Path backupPath = filePath.resolveSibling(filePath.getFileName() + ".bak");
+                Files.move(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+                ui.showMessage("The invalid file has been backed up to " + backupPath);
             }
-        } catch (IOException e) {
-            logger.log(Level.WARNING, "Failed to read the data file: " + e.getMessage());
-            System.out.println("Oh no! I was not able to read the file: " + e.getMessage());
+            createFile();
         }
     }
 
+    /**
+     * Marks every semester before the given one as COMPLETED in the data file, and clears the mark from the rest.
+     * In journal mode, only a COMPLETE record is appended to the journal.
+     *
+     * @param semester The new current semester (1-based).
+     */
+    @Override
     public void addCompletionStatus(int semester) {
-        Path filePath = Paths.get(dataFile);
-        int prevSemester = semester - 1;
+        if (isJournalEnabled) {
+            appendToJournal(StorageJournal.COMPLETE, String.valueOf(semester));
+            return;
+        }
         try {
-            List<String> lines = Files.readAllLines(filePath);
-            for (int i = 0; i < prevSemester; i++) {
-                String line = lines.get(i);
-                if (!line.contains("COMPLETED")) {
-                    String updatedLine = "";
-                    int dashIndex = line.indexOf("-");
-                    if (dashIndex != -1) {
-                        String beforeDash = line.substring(0, dashIndex).trim();
-                        String afterDash = line.substring(dashIndex);
-                        updatedLine = beforeDash + ":COMPLETED " + afterDash;
-                    }
-                    lines.set(i, updatedLine);
-                }
-            }
-            for (int j = prevSemester; j < lines.size() - 1; j++) {
-                String lineNotCompleted = lines.get(j);
-                if (lineNotCompleted.contains("COMPLETED")) {
-                    String updatedLineNotCompleted = "";
-                    int dashIndex = lineNotCompleted.indexOf("-");
-                    if (dashIndex != -1) {
-                        String beforeDash = lineNotCompleted.substring(0, dashIndex).trim();
-                        String afterDash = lineNotCompleted.substring(dashIndex);
-                        updatedLineNotCompleted = beforeDash.replace(":COMPLETED", " ") + afterDash;
-                    }
-                    lines.set(j, updatedLineNotCompleted);
-                }
-            }
-            Files.write(filePath, lines);
+            updateFile(lines -> addCompletionLines(lines, semester));
         } catch (IOException e) {
             System.out.println("Oh no! I was not able to update the file: " + e.getMessage());
         }
@@ -499,33 +571,20 @@ public class Storage {
     /**
      * Appends a secured module to the data file.
      * Stores in the format "MODCODE:STATUS,"
+     * In journal mode, only a SECURE record is appended to the journal.
      *
      * @param module The module to save.
      */
+    @Override
     public void saveSecuredModule(Module module) {
-        Path filePath = Paths.get(dataFile);
-        String moduleEntry = module.getModCode() + ":" + module.getStatus().toString() + ",";
+        String moduleCode = module.getModCode();
+        String status = module.getStatus().toString();
+        if (isJournalEnabled) {
+            appendToJournal(StorageJournal.SECURE, moduleCode, status);
+            return;
+        }
         try {
-            List<String> lines = Files.readAllLines(filePath);
-
-            int securedLineIndex = -1;
-            for (int i = 0; i < lines.size(); i++) {
-                if (lines.get(i).trim().startsWith("EXEMPTED -")) {
-                    securedLineIndex = i;
-                    break;
-                }
-            }
-
-            if (securedLineIndex == -1) {
-                lines.add("EXEMPTED - " + moduleEntry);
-            } else {
-                String line = lines.get(securedLineIndex);
-                String updatedLine = line.concat(" " + moduleEntry);
-                lines.set(securedLineIndex, updatedLine);
-            }
-
-            Files.write(filePath, lines);
-
+            updateFile(lines -> addSecuredModuleLine(lines, moduleCode, status));
         } catch (IOException e) {
             System.out.println("Oh no! I was not able to update the file with secured module: " + e.getMessage());
         }
@@ -533,34 +592,312 @@ public class Storage {
 
     /**
      * Deletes a secured module from the data file.
+     * In journal mode, only an UNSECURE record is appended to the journal.
      *
      * @param moduleToDelete The module code to delete.
      */
+    @Override
     public void deleteSecuredModule(String moduleToDelete) {
-        Path filePath = Paths.get(dataFile);
+        if (isJournalEnabled) {
+            appendToJournal(StorageJournal.UNSECURE, moduleToDelete);
+            return;
+        }
         try {
-            List<String> lines = Files.readAllLines(filePath);
-            int securedLineIndex = -1;
-            for (int i = 0; i < lines.size(); i++) {
-                if (lines.get(i).trim().startsWith("EXEMPTED -")) {
-                    securedLineIndex = i;
-                    break;
+            updateFile(lines -> deleteSecuredModuleLine(lines, moduleToDelete));
+        } catch (IOException e) {
+            System.out.println("Oh no! I was not able to update the file (delete secured): " + e.getMessage());
+        }
+    }
+
+    /**
+     * Switches to journal mode, where every change is appended as one record to a journal next to the
+     * data file instead of rewriting the whole file. The journal is folded back into the data file by a
+     * background compactor once it grows past a threshold, and whenever the data is restored.
+     */
+    @Override
+    public void enableJournal() {
+        isJournalEnabled = true;
+    }
+
+    /**
+     * Folds every record in the journal into the data file and empties the journal.
+     * Safe to call at any time, including when journal mode is off or the journal is empty.
+     */
+    public synchronized void compactJournal() {
+        try (PlanFileLock.Handle ignored = fileLock.lockExclusive()) {
+            List<String[]> records = journal.readRecords();
+            if (records.isEmpty()) {
+                return;
+            }
+            updateFile(lines -> {
+                for (String[] record : records) {
+                    applyJournalRecord(lines, record);
                 }
+            });
+            flush();
+            journal.clear();
+            logger.log(Level.INFO, "Compacted " + records.size() + " journal records into " + dataFile);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to compact the journal: " + e.getMessage());
+        }
+    }
+
+    private synchronized void appendToJournal(String... fields) {
+        int recordCount;
+        try (PlanFileLock.Handle ignored = fileLock.lockExclusive()) {
+            journal.append(fields);
+            recordCount = journal.size();
+        } catch (IOException e) {
+            System.out.println("Oh no! I was not able to update the file: " + e.getMessage());
+            return;
+        }
+
+        if (recordCount >= JOURNAL_COMPACTION_THRESHOLD && isCompactionPending.compareAndSet(false, true)) {
+            BACKGROUND_WRITER.execute(() -> {
+                isCompactionPending.set(false);
+                compactJournal();
+            });
+        }
+    }
+
+    /**
+     * Applies one journal record to the lines of the data file.
+     */
+    private static void applyJournalRecord(List<String> lines, String[] record) {
+        try {
+            switch (record[0]) {
+            case StorageJournal.ADD:
+                addModuleLine(lines, record[1], Integer.parseInt(record[2]));
+                break;
+            case StorageJournal.DELETE:
+                deleteModuleLine(lines, record[1], Integer.parseInt(record[2]));
+                break;
+            case StorageJournal.SECURE:
+                addSecuredModuleLine(lines, record[1], record[2]);
+                break;
+            case StorageJournal.UNSECURE:
+                deleteSecuredModuleLine(lines, record[1]);
+                break;
+            case StorageJournal.COMPLETE:
+                addCompletionLines(lines, Integer.parseInt(record[1]));
+                break;
+            default:
+                logger.log(Level.WARNING, "Skipping unknown journal record: " + String.join(" ", record));
             }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            logger.log(Level.WARNING, "Skipping malformed journal record: " + String.join(" ", record));
+        }
+    }
+
+    /**
+     * Sets how long changes to the data file may wait before being written, so that several quick changes
+     * are written and forced to disk together. A window of 0 writes every change immediately.
+     *
+     * @param windowMillis The group-commit window in milliseconds.
+     */
+    @Override
+    public synchronized void setGroupCommitWindow(long windowMillis) {
+        assert windowMillis >= 0 : "Group-commit window cannot be negative";
+        if (groupCommitWindowMillis == 0 && windowMillis > 0) {
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+        }
+        groupCommitWindowMillis = windowMillis;
+        if (windowMillis == 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes any changes still waiting in the group-commit window to the data file.
+     * The file is read again under the exclusive lock and the waiting edits are applied to it, so that
+     * changes made to the file by other processes in the meantime are kept.
+     */
+    public synchronized void flush() {
+        isFlushScheduled = false;
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+        try {
+            writePendingEdits(lines -> { });
+        } catch (IOException e) {
+            System.out.println("Oh no! I was not able to update the file: " + e.getMessage());
+        }
+    }
 
-            if (securedLineIndex != -1) {
-                String line = lines.get(securedLineIndex);
+    /**
+     * Re-reads the data file under the file lock, applies the queued group-commit edits followed by
+     * the given edit, and writes the file back. The queue is only cleared once the write succeeds.
+     */
+    private void writePendingEdits(Consumer<List<String>> edit) throws IOException {
+        Path filePath = Paths.get(dataFile);
+        try (PlanFileLock.Handle ignored = fileLock.lockExclusive()) {
+            List<String> lines = readLines(filePath);
+            pendingEdits.forEach(pendingEdit -> pendingEdit.accept(lines));
+            edit.accept(lines);
+            writeLines(filePath, lines);
+            pendingEdits.clear();
+        }
+    }
 
-                String updatedLine = line.replace(" " + moduleToDelete + ":" + "COMPLETED" + ",", "");
-                updatedLine = updatedLine.replace(" " + moduleToDelete + ":" + "EXEMPTED" + ",", "");
+    /**
+     * Returns the background refresh of the saved module metadata started by the last restore.
+     */
+    CompletableFuture<Void> getMetadataRefresh() {
+        return metadataRefresh;
+    }
 
-                lines.set(securedLineIndex, updatedLine);
-                Files.write(filePath, lines);
+    /**
+     * Reads all lines of the data file, edits them and writes them back atomically,
+     * holding the file lock throughout so that no other process changes the file in between.
+     * In group-commit mode, the edit is queued and applied by {@link #flush()} when the window closes.
+     */
+    private synchronized void updateFile(Consumer<List<String>> edit) throws IOException {
+        Path filePath = Paths.get(dataFile);
+        if (groupCommitWindowMillis == 0) {
+            try (PlanFileLock.Handle ignored = fileLock.lockExclusive()) {
+                List<String> lines = readLines(filePath);
+                edit.accept(lines);
+                writeLines(filePath, lines);
             }
+            return;
+        }
+
+        pendingEdits.add(edit);
+        if (!isFlushScheduled) {
+            isFlushScheduled = true;
+            BACKGROUND_WRITER.schedule(this::flush, groupCommitWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Converts a data file between the text and binary formats, choosing each format by file extension.
+     *
+     * @param source The data file to convert.
+     * @param target The file to write the converted data to.
+     * @throws IOException If the source cannot be read or is not a valid data file.
+     */
+    public static void convert(Path source, Path target) throws IOException {
+        writeLines(target, readLines(source));
+    }
+
+    private static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(BINARY_EXTENSION);
+    }
 
+    /**
+     * Reads the data file as lines of the text format, decoding it first if it is a binary snapshot.
+     * A binary snapshot that cannot be decoded is read as an empty file, so that restoring treats it as invalid.
+     */
+    private static List<String> readLines(Path filePath) throws IOException {
+        if (!isBinaryFile(filePath)) {
+            return Files.readAllLines(filePath);
+        }
+        try {
+            return BinaryPlanCodec.decode(ByteBuffer.wrap(Files.readAllBytes(filePath)));
+        } catch (NoSuchFileException e) {
+            throw e;
         } catch (IOException e) {
-            System.out.println("Oh no! I was not able to update the file (delete secured): " + e.getMessage());
+            logger.log(Level.WARNING, "Failed to decode " + filePath + ": " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private static void writeLines(Path filePath, List<String> lines) throws IOException {
+        if (isBinaryFile(filePath)) {
+            AtomicFileWriter.write(filePath, BinaryPlanCodec.encode(lines));
+        } else {
+            AtomicFileWriter.write(filePath, lines);
+        }
+    }
+
+    /**
+     * Adds a module code to the line of a semester, unless it is already there.
+     * Skipping codes already on the line keeps journal replay idempotent, so a journal that was folded
+     * into the data file but not cleared before a crash can safely be replayed again.
+     */
+    private static void addModuleLine(List<String> lines, String moduleCode, int semester) {
+        String line = lines.get(semester - 1);
+        if (line.contains(" " + moduleCode + ",")) {
+            return;
+        }
+        String updatedLine = line.concat(" " + moduleCode + ",");
+        lines.set(semester - 1, updatedLine);
+    }
+
+    private static void deleteModuleLine(List<String> lines, String moduleToDelete, int semester) {
+        assert semester >= 1 && semester <= lines.size() : "Semester number out of bounds.";
+        String line = lines.get(semester - 1);
+        String updatedLine = line.replace(" " + moduleToDelete + ",", "");
+        logger.log(Level.INFO, " Updated line after deletion." + updatedLine);
+        lines.set(semester - 1, updatedLine);
+    }
+
+    private static void addCompletionLines(List<String> lines, int semester) {
+        int prevSemester = semester - 1;
+        for (int i = 0; i < prevSemester; i++) {
+            String line = lines.get(i);
+            if (!line.contains("COMPLETED")) {
+                String updatedLine = "";
+                int dashIndex = line.indexOf("-");
+                if (dashIndex != -1) {
+                    String beforeDash = line.substring(0, dashIndex).trim();
+                    String afterDash = line.substring(dashIndex);
+                    updatedLine = beforeDash + ":COMPLETED " + afterDash;
+                }
+                lines.set(i, updatedLine);
+            }
+        }
+        for (int j = prevSemester; j < lines.size() - 1; j++) {
+            String lineNotCompleted = lines.get(j);
+            if (lineNotCompleted.contains("COMPLETED")) {
+                String updatedLineNotCompleted = "";
+                int dashIndex = lineNotCompleted.indexOf("-");
+                if (dashIndex != -1) {
+                    String beforeDash = lineNotCompleted.substring(0, dashIndex).trim();
+                    String afterDash = lineNotCompleted.substring(dashIndex);
+                    updatedLineNotCompleted = beforeDash.replace(":COMPLETED", " ") + afterDash;
+                }
+                lines.set(j, updatedLineNotCompleted);
+            }
+        }
+    }
+
+    private static void addSecuredModuleLine(List<String> lines, String moduleCode, String status) {
+        String moduleEntry = moduleCode + ":" + status + ",";
+        int securedLineIndex = findSecuredLine(lines);
+
+        if (securedLineIndex == -1) {
+            lines.add("EXEMPTED - " + moduleEntry);
+        } else {
+            String line = lines.get(securedLineIndex);
+            if (line.contains(" " + moduleCode + ":COMPLETED,") || line.contains(" " + moduleCode + ":EXEMPTED,")) {
+                return; // Already recorded, e.g. by an earlier replay of the same journal
+            }
+            String updatedLine = line.concat(" " + moduleEntry);
+            lines.set(securedLineIndex, updatedLine);
+        }
+    }
+
+    private static void deleteSecuredModuleLine(List<String> lines, String moduleToDelete) {
+        int securedLineIndex = findSecuredLine(lines);
+
+        if (securedLineIndex != -1) {
+            String line = lines.get(securedLineIndex);
+
+            String updatedLine = line.replace(" " + moduleToDelete + ":" + "COMPLETED" + ",", "");
+            updatedLine = updatedLine.replace(" " + moduleToDelete + ":" + "EXEMPTED" + ",", "");
+
+            lines.set(securedLineIndex, updatedLine);
+        }
+    }
+
+    private static int findSecuredLine(List<String> lines) {
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).trim().startsWith("EXEMPTED -")) {
+                return i;
+            }
         }
+        return -1;
     }
 
     /**
@@ -0,0 +1,124 @@
+package seedu.classcraft.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Write-ahead log of study plan changes, kept next to the data file.
+ * Each change is appended as one record such as "ADD CS2040S 3", so saving a change costs the same
+ * however large the study plan is. The records are folded back into the data file by {@link Storage}.
+ */
+class StorageJournal {
+    static final String ADD = "ADD";
+    static final String DELETE = "DELETE";
+    static final String SECURE = "SECURE";
+    static final String UNSECURE = "UNSECURE";
+    static final String COMPLETE = "COMPLETE";
+
+    private final Path journalFile;
+
+    /**
+     * Opens the journal at the given path. The file is not touched until the first record is appended,
+     * as another process may be appending to it.
+     * Every method other than the constructor must be called while holding the plan's exclusive file lock.
+     *
+     * @param journalFile The path of the journal file.
+     */
+    StorageJournal(Path journalFile) {
+        this.journalFile = journalFile;
+    }
+
+    /**
+     * Appends one record to the journal and forces it to disk, so that a change reported as saved
+     * survives a crash. A record torn by a crash while it was being appended is cut off first,
+     * so that it is not merged into the new record.
+     *
+     * @param fields The fields of the record, e.g. the operation, a module code and a semester.
+     * @throws IOException If the journal cannot be written.
+     */
+    synchronized void append(String... fields) throws IOException {
+        String record = String.join(" ", fields) + System.lineSeparator();
+        ByteBuffer buffer = ByteBuffer.wrap(record.getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            dropTornRecord(channel);
+            channel.position(channel.size());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Cuts the journal after its last line break. The caller holds the exclusive file lock,
+     * so a last line without one is not being appended by anyone and was torn by a crash.
+     */
+    private void dropTornRecord(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return;
+        }
+        ByteBuffer lastByte = ByteBuffer.allocate(1);
+        channel.read(lastByte, size - 1);
+        if (lastByte.get(0) == '\n') {
+            return;
+        }
+        byte[] content = Files.readAllBytes(journalFile);
+        int end = content.length;
+        while (end > 0 && content[end - 1] != '\n') {
+            end--;
+        }
+        channel.truncate(end);
+        channel.force(false);
+    }
+
+    /**
+     * Reads all records in the journal, in the order they were appended.
+     * A last line without a line break was torn by a crash while it was being appended, and is dropped.
+     *
+     * @return The records, split into fields. Empty if there is no journal.
+     * @throws IOException If the journal exists but cannot be read.
+     */
+    synchronized List<String[]> readRecords() throws IOException {
+        List<String[]> records = new ArrayList<>();
+        if (!Files.exists(journalFile)) {
+            return records;
+        }
+        String content = Files.readString(journalFile);
+        int end = content.lastIndexOf('\n') + 1;
+        for (String line : content.substring(0, end).split("\\R")) {
+            if (!line.isBlank()) {
+                records.add(line.trim().split(" "));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Removes every record from the journal, once they have been folded into the data file.
+     *
+     * @throws IOException If the journal cannot be deleted.
+     */
+    synchronized void clear() throws IOException {
+        Files.deleteIfExists(journalFile);
+    }
+
+    /**
+     * Returns the number of records in the journal, counted from the file so that records appended
+     * by other processes sharing the plan are included.
+     *
+     * @return The number of complete records.
+     * @throws IOException If the journal exists but cannot be read.
+     */
+    synchronized int size() throws IOException {
+        return readRecords().size();
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.classcraft.studyplan;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.classcraft.prerequisite.PrereqExpression;
+
+/**
+ * Reverse index from prerequisite module codes to the modules in a study plan that depend on them.
+ * Wildcard prerequisites such as "CS1010%" are indexed by their prefix, so that finding the dependents
+ * of a module takes one lookup for its code and one per prefix of its code, however large the plan is.
+ */
+class DependencyIndex {
+    private final Map<String, Set<Module>> dependentsByCode = new HashMap<>();
+    private final Map<String, Set<Module>> dependentsByPrefix = new HashMap<>();
+
+    /**
+     * Indexes the prerequisites of a module that has been added to the study plan.
+     *
+     * @param module The module added.
+     */
+    void add(Module module) {
+        List<String> codes = new ArrayList<>();
+        List<String> prefixes = new ArrayList<>();
+        collectPrerequisites(module, codes, prefixes);
+
+        for (String code : codes) {
+            dependentsByCode.computeIfAbsent(code, key -> new LinkedHashSet<>()).add(module);
+        }
+        for (String prefix : prefixes) {
+            dependentsByPrefix.computeIfAbsent(prefix, key -> new LinkedHashSet<>()).add(module);
+        }
+    }
+
+    /**
+     * Removes the prerequisites of a module that has been taken out of the study plan.
+     *
+     * @param module The module removed.
+     */
+    void remove(Module module) {
+        List<String> codes = new ArrayList<>();
+        List<String> prefixes = new ArrayList<>();
+        collectPrerequisites(module, codes, prefixes);
+
+        for (String code : codes) {
+            removeFrom(dependentsByCode, code, module);
+        }
+        for (String prefix : prefixes) {
+            removeFrom(dependentsByPrefix, prefix, module);
+        }
+    }
+
+    /**
+     * Finds the modules that have the given module as a prerequisite.
+     *
+     * @param moduleCode The module code to check.
+     * @return The codes of the dependent modules, in the order they were added to the plan.
+     */
+    List<String> getDependents(String moduleCode) {
+        Set<Module> dependents = new LinkedHashSet<>(dependentsByCode.getOrDefault(moduleCode, Set.of()));
+        if (!dependentsByPrefix.isEmpty()) {
+            for (int length = 1; length <= moduleCode.length(); length++) {
+                dependents.addAll(dependentsByPrefix.getOrDefault(moduleCode.substring(0, length), Set.of()));
+            }
+        }
+
+        List<String> dependentCodes = new ArrayList<>();
+        for (Module dependent : dependents) {
+            if (!dependent.getModCode().equals(moduleCode)) {
+                dependentCodes.add(dependent.getModCode());
+            }
+        }
+        return dependentCodes;
+    }
+
+    /**
+     * Splits the prerequisites of a module into exact module codes and wildcard prefixes.
+     * Modules built without a prerequisite tree fall back to their list of prerequisite codes.
+     */
+    private static void collectPrerequisites(Module module, List<String> codes, List<String> prefixes) {
+        PrereqExpression expression = module.getPrereqExpression();
+        if (expression != null) {
+            expression.collectModuleCodes(codes);
+            expression.collectWildcardPrefixes(prefixes);
+            return;
+        }
+
+        if (module.getPrerequisites() == null) {
+            return;
+        }
+        for (String prereq : module.getPrerequisites()) {
+            String cleanPrereq = prereq.replaceAll(":%[A-Z]", "").replaceAll(":[A-Z]", "");
+            if (cleanPrereq.contains("%")) {
+                prefixes.add(cleanPrereq.replace("%", ""));
+            } else {
+                codes.add(cleanPrereq);
+            }
+        }
+    }
+
+    private static void removeFrom(Map<String, Set<Module>> index, String key, Module module) {
+        Set<Module> dependents = index.get(key);
+        if (dependents == null) {
+            return;
+        }
+        dependents.remove(module);
+        if (dependents.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
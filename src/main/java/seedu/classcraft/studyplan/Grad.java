@@ -2,6 +2,7 @@ package seedu.classcraft.studyplan;
 
 import java.util.List;
 import java.util.Arrays;
+import java.util.Map;
 
 /**
  * Stores and provides access to the CEG Default Graduation Requirements
@@ -32,29 +33,29 @@ public class Grad {
     /**
      * Produces a formatted string displaying all graduation requirements,
      * including module names fetched via ModuleHandler.
+     * Core modules not yet in the shared module registry are fetched concurrently.
      * 
      * @return A string representation of all graduation requirements.
      */
     public static String getAllRequirementsDisplay() {
         StringBuilder sb = new StringBuilder();
-        ModuleHandler tempHandler = new ModuleHandler();
+        Map<String, Module> coreModules = new ModuleHandler().createModules(CEG_CORE_MODULES);
 
         sb.append("===== CEG Default Graduation Requirements (Minimum) =====\n");
 
         sb.append("--- Core Modules (Required: ").append(CEG_CORE_MODULES.size()).append(" mods) ---\n");
         for (String modCode : CEG_CORE_MODULES) {
-            try {
-                Module module = tempHandler.createModule(modCode);
-                String prereqsInfo = module.getPrerequisitesDisplay();
-
-                // format：- CS1010 (Programming Methodology) (Prereqs: ...)
-                sb.append("- ").append(module.getModCode())
-                        .append(" (").append(module.getModName()).append(")")
-                        .append(prereqsInfo).append("\n");
-
-            } catch (Exception e) {
+            Module module = coreModules.get(modCode);
+            if (module == null) {
                 sb.append("- ").append(modCode).append(" (Error fetching details)\n");
+                continue;
             }
+            String prereqsInfo = module.getPrerequisitesDisplay();
+
+            // format：- CS1010 (Programming Methodology) (Prereqs: ...)
+            sb.append("- ").append(module.getModCode())
+                    .append(" (").append(module.getModName()).append(")")
+                    .append(prereqsInfo).append("\n");
         }
 
         sb.append("\n--- General Education Modules ---\n");
@@ -1,20 +1,19 @@
 package seedu.classcraft.studyplan;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import seedu.classcraft.prerequisite.CompiledPrereq;
+import seedu.classcraft.prerequisite.ModuleCode;
+import seedu.classcraft.prerequisite.PrereqExpression;
 
 import java.util.List;
 
 /**
- * Contains all the relevant info about a module
+ * A module in one study plan: its shared {@link ModuleDefinition} together with its status and the semester
+ * it is planned in. Only the status and semester belong to the plan, so the catalog data is never copied.
  */
 public class Module {
-    private String modName;
-    private String modCode;
-    private int modCreds;
-    private String modDescription;
-    private List<String> prerequisites;
-    private JsonNode prereqTree;
-    private int semesterTaught;
+    private ModuleDefinition definition;
+    private int semesterTaught; // the semester the module is planned in, 0 if it is not planned
     private int defaultSemester;
     private int prerequisitesCount; // default 0, updates when added to ModuleHandler
 
@@ -25,22 +24,43 @@ public class Module {
     private ModuleStatus status;
 
     public Module(String modName, String modCode, int modCreds, String modDescription, List<String> prerequisites,
-                  int semesterTaught, int defaultSemester) {
-
-        this.modName = modName;
-        this.modCode = modCode;
-        this.modCreds = modCreds;
-        this.modDescription = modDescription;
-        this.prerequisites = prerequisites;
-        this.prereqTree = null;
-        this.semesterTaught = semesterTaught;
+                  int semesterOffered, int defaultSemester) {
+        this(ModuleDefinition.of(modCode, modName, modCreds, modDescription, semesterOffered, null, prerequisites));
         this.defaultSemester = defaultSemester;
+    }
+
+    /**
+     * Creates a module for a study plan from its shared definition.
+     *
+     * @param definition The definition of the module, usually from the {@link ModuleRegistry}.
+     */
+    public Module(ModuleDefinition definition) {
+        this.definition = definition;
+        this.semesterTaught = 0;
+        this.defaultSemester = -1;
         this.prerequisitesCount = 0;
 
         // @@author lingru
         this.status = ModuleStatus.PLANNED;
         // @@author
+    }
 
+    /**
+     * Returns the shared catalog data of the module.
+     *
+     * @return The definition of the module.
+     */
+    public ModuleDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Returns an immutable record of where the module is placed in the plan right now.
+     *
+     * @return The placement of the module.
+     */
+    public PlannedModule toPlannedModule() {
+        return new PlannedModule(definition, semesterTaught, status);
     }
 
     // @@author Yeoh-Soo-Leong
@@ -49,29 +69,52 @@ public class Module {
     }
 
     public String getModName() {
-        return modName;
+        return definition.getModName();
     }
 
     public String getModCode() {
-        return modCode;
+        return definition.getModCode();
+    }
+
+    /**
+     * Returns the interned ID of the module code, used to hold sets of modules as bitsets.
+     *
+     * @return The ID assigned to the module code by {@link ModuleCode}.
+     */
+    public int getModuleId() {
+        return definition.getModuleId();
     }
 
     public int getModCreds() {
-        return modCreds;
+        return definition.getModCreds();
     }
 
     public String getModDescription() {
-        return modDescription;
+        return definition.getModDescription();
     }
 
     public List<String> getPrerequisites() {
-        return prerequisites;
+        return definition.getPrerequisites();
     }
 
     public void setPrerequisites(List<String> prerequisites) {
-        this.prerequisites = prerequisites;
+        this.definition = definition.withPrerequisites(prerequisites);
     }
 
+    /**
+     * Returns the semester(s) the module is offered in: 1 (odd semesters), 2 (even semesters), 3 (both) or 0.
+     *
+     * @return The offering code of the module.
+     */
+    public int getSemesterOffered() {
+        return definition.getSemesterOffered();
+    }
+
+    /**
+     * Returns the semester the module is planned in.
+     *
+     * @return The semester number (1-based), or 0 if the module is not planned in a semester.
+     */
     public int getSemesterTaught() {
         return semesterTaught;
     }
@@ -106,24 +149,53 @@ public class Module {
     // @@author
 
     // @@author seantkj
+    /**
+     * Returns the prerequisites of the module.
+     *
+     * @return The prerequisite expression, or null if the module has no prerequisites.
+     */
+    public PrereqExpression getPrereqExpression() {
+        return definition.getPrereqExpression();
+    }
+
+    public void setPrereqExpression(PrereqExpression prereqExpression) {
+        this.definition = definition.withPrereqExpression(prereqExpression);
+    }
+
+    /**
+     * Returns the prerequisites of the module compiled for fast evaluation.
+     *
+     * @return The compiled prerequisites, or null if the module has no prerequisites.
+     */
+    public CompiledPrereq getCompiledPrereq() {
+        return definition.getCompiledPrereq();
+    }
+
+    public boolean hasPrereqs() {
+        return definition.getPrereqExpression() != null;
+    }
+
+    /**
+     * Returns the prerequisites of the module in the NUSMods prereqTree format, rebuilt from the expression.
+     *
+     * @return The prerequisite tree, or null if the module has no prerequisites.
+     */
     public JsonNode getPrereqTree() {
-        return prereqTree;
+        PrereqExpression prereqExpression = definition.getPrereqExpression();
+        return prereqExpression == null ? null : prereqExpression.toJson();
     }
 
+    /**
+     * Sets the prerequisites of the module from a NUSMods prereqTree.
+     *
+     * @param prereqTree The prerequisite tree, or null if the module has no prerequisites.
+     */
     public void setPrereqTree(JsonNode prereqTree) {
-        this.prereqTree = prereqTree;
+        setPrereqExpression(PrereqExpression.fromJson(prereqTree));
     }
 
     public String getPrerequisitesDisplay() {
-        List<String> prereqs = getPrerequisites();
-
-        if (prereqs == null || prereqs.isEmpty()) {
-            return "(No Prerequisites)";
-        }
-
-        String prereqsString = String.join(", ", prereqs);
-        return " (Prerequisites: " + prereqsString + ")";
+        return definition.getPrerequisitesDisplay();
     }
     // @@author
 }
-
@@ -0,0 +1,160 @@
+package seedu.classcraft.studyplan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.classcraft.nusmodsfetcher.NUSmodsFetcher;
+import seedu.classcraft.prerequisite.CompiledPrereq;
+import seedu.classcraft.prerequisite.ModuleCode;
+import seedu.classcraft.prerequisite.PrereqExpression;
+
+/**
+ * The catalog data of a module, as published by NUSMods.
+ * A definition never changes once created, so one instance is cached in the {@link ModuleRegistry}
+ * and shared by every study plan; the status and semester of a module in a plan are kept by {@link Module}.
+ */
+public final class ModuleDefinition {
+    private final String modCode;
+    private final int moduleId;
+    private final String modName;
+    private final int modCreds;
+    private final String modDescription;
+    private final List<String> prerequisites;
+    private final PrereqExpression prereqExpression;
+    private final CompiledPrereq compiledPrereq;
+    private final int semesterOffered;
+
+    private ModuleDefinition(String modCode, String modName, int modCreds, String modDescription,
+                             int semesterOffered, PrereqExpression prereqExpression, List<String> prerequisites) {
+        this.modCode = modCode;
+        this.moduleId = ModuleCode.intern(modCode);
+        this.modName = modName;
+        this.modCreds = modCreds;
+        this.modDescription = modDescription;
+        this.semesterOffered = semesterOffered;
+        this.prereqExpression = prereqExpression;
+        this.compiledPrereq = prereqExpression == null ? null : CompiledPrereq.compile(prereqExpression);
+        this.prerequisites = prerequisites == null ? List.of() : List.copyOf(prerequisites);
+    }
+
+    /**
+     * Creates the definition of a module.
+     *
+     * @param modCode          The module code.
+     * @param modName          The title of the module.
+     * @param modCreds         The number of module credits.
+     * @param modDescription   The description of the module.
+     * @param semesterOffered  The semester(s) the module is offered in: 1, 2, 3 (both) or 0 (neither).
+     * @param prereqExpression The prerequisites of the module, or null if it has none.
+     * @return The definition.
+     */
+    public static ModuleDefinition of(String modCode, String modName, int modCreds, String modDescription,
+                                      int semesterOffered, PrereqExpression prereqExpression) {
+        return new ModuleDefinition(modCode, modName, modCreds, modDescription, semesterOffered, prereqExpression,
+                listPrerequisites(prereqExpression));
+    }
+
+    /**
+     * Creates the definition of a module with the given list of prerequisite module codes.
+     */
+    static ModuleDefinition of(String modCode, String modName, int modCreds, String modDescription,
+                               int semesterOffered, PrereqExpression prereqExpression, List<String> prerequisites) {
+        return new ModuleDefinition(modCode, modName, modCreds, modDescription, semesterOffered, prereqExpression,
+                prerequisites);
+    }
+
+    /**
+     * Returns a copy of this definition with other prerequisites, keeping the list of prerequisite module codes.
+     */
+    ModuleDefinition withPrereqExpression(PrereqExpression newPrereqExpression) {
+        return new ModuleDefinition(modCode, modName, modCreds, modDescription, semesterOffered, newPrereqExpression,
+                prerequisites);
+    }
+
+    /**
+     * Returns a copy of this definition with another list of prerequisite module codes.
+     */
+    ModuleDefinition withPrerequisites(List<String> newPrerequisites) {
+        return new ModuleDefinition(modCode, modName, modCreds, modDescription, semesterOffered, prereqExpression,
+                newPrerequisites);
+    }
+
+    /**
+     * Lists the module codes named in the prerequisites, leaving out malformed codes and bridging modules.
+     */
+    private static List<String> listPrerequisites(PrereqExpression prereqExpression) {
+        List<String> prerequisites = new ArrayList<>();
+        if (prereqExpression == null) {
+            return prerequisites;
+        }
+        prereqExpression.collectModuleCodes(prerequisites);
+        return prerequisites.stream()
+                .filter(code -> code != null && !code.trim().isEmpty() && NUSmodsFetcher.isValidModuleCode(code))
+                .filter(code -> !PrereqExpression.BRIDGING_MODULES.contains(code))
+                .distinct()
+                .toList();
+    }
+
+    public String getModCode() {
+        return modCode;
+    }
+
+    /**
+     * Returns the interned ID of the module code, used to hold sets of modules as bitsets.
+     *
+     * @return The ID assigned to the module code by {@link ModuleCode}.
+     */
+    public int getModuleId() {
+        return moduleId;
+    }
+
+    public String getModName() {
+        return modName;
+    }
+
+    public int getModCreds() {
+        return modCreds;
+    }
+
+    public String getModDescription() {
+        return modDescription;
+    }
+
+    /**
+     * Returns the codes of the modules named in the prerequisites.
+     *
+     * @return The unmodifiable list of prerequisite module codes.
+     */
+    public List<String> getPrerequisites() {
+        return prerequisites;
+    }
+
+    /**
+     * Returns the prerequisites of the module.
+     *
+     * @return The prerequisite expression, or null if the module has no prerequisites.
+     */
+    public PrereqExpression getPrereqExpression() {
+        return prereqExpression;
+    }
+
+    /**
+     * Returns the prerequisites of the module compiled for fast evaluation.
+     *
+     * @return The compiled prerequisites, or null if the module has no prerequisites.
+     */
+    public CompiledPrereq getCompiledPrereq() {
+        return compiledPrereq;
+    }
+
+    public int getSemesterOffered() {
+        return semesterOffered;
+    }
+
+    public String getPrerequisitesDisplay() {
+        if (prerequisites.isEmpty()) {
+            return "(No Prerequisites)";
+        }
+        return " (Prerequisites: " + String.join(", ", prerequisites) + ")";
+    }
+}
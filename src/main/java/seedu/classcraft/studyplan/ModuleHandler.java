@@ -1,182 +1,83 @@
 package seedu.classcraft.studyplan;
 
 import java.net.URL;
-import java.util.HashMap;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-
-import com.fasterxml.jackson.databind.JsonNode;
-
 
 import seedu.classcraft.exceptions.NUSmodsFetcherException;
-import seedu.classcraft.nusmodsfetcher.NUSmodsFetcher;
+import seedu.classcraft.prerequisite.PrereqExpression;
 
-import java.util.Iterator;
 import java.util.Map;
 
 /**
- * Handles the storage and creation of Module classes
- * Stores a HashMap with modCode: Module as key value pair
+ * Handles the creation of Module classes.
+ * Module data is looked up in the shared {@link ModuleRegistry}, so each module is fetched from NUSMods
+ * at most once however many handlers, plans and commands ask for it.
  */
 public class ModuleHandler {
     private static final Logger LOGGER = Logger.getLogger(ModuleHandler.class.getName());
-    private HashMap<String, Module> modules;
+    private final ModuleRegistry registry;
 
     public ModuleHandler() {
-        setLoggerLevel();
-        this.modules = new HashMap<>();
+        this(ModuleRegistry.getInstance());
     }
 
-    /**
-     * Gets a module by module code from the modules map.
-     *
-     * @param moduleCode The module code to retrieve
-     * @return The Module object if found, null otherwise.
-     */
-    public Module getModule(String moduleCode) {
-        return modules.get(moduleCode.toUpperCase());
+    ModuleHandler(ModuleRegistry registry) {
+        setLoggerLevel();
+        this.registry = registry;
     }
 
     /**
-     * Creates a Module object by fetching details from NUSMods API.
+     * Creates a Module object, fetching its details from NUSMods API if they are not cached.
      *
      * @param moduleCode The module code of the module to be created.
      * @return The created Module object.
      */
     public Module createModule(String moduleCode) throws Exception {
-        String modName;
-        int modCreds;
-        String modDescription;
-        JsonNode prereqTreeNode = null;
-        int semOffered;
-
         try {
-            modName = NUSmodsFetcher.getModuleTitle(moduleCode);
-            modCreds = NUSmodsFetcher.getModuleCredits(moduleCode);
-            modDescription = NUSmodsFetcher.getModuleDescription(moduleCode);
-            semOffered = NUSmodsFetcher.getSemesterOffered(moduleCode);
+            return new Module(registry.getOrFetch(moduleCode));
         } catch (NUSmodsFetcherException e) {
             LOGGER.warning("Could not fetch details for " + moduleCode + ". Error: " + e.getMessage());
             throw new Exception("Module code " + moduleCode + " is invalid or could not be fetched from NUSMods.");
         }
-
-        List<String> prerequisites = new ArrayList<>();
-
-        try {
-            JsonNode rootJson = NUSmodsFetcher.fetchModuleJson(moduleCode);
-            JsonNode prerequisiteNode = rootJson.get("prereqTree");
-
-            if (prerequisiteNode != null && !prerequisiteNode.isNull()) {
-                prereqTreeNode = prerequisiteNode;
-                extractModuleCodes(prerequisiteNode, prerequisites);
-
-                prerequisites = prerequisites.stream()
-                        .map(code -> stripGradeRequirement(code))
-                        .filter(code -> isValidModuleCode(code))
-                        .filter(code -> !isBridgingModule(code))
-                        .distinct()
-                        .collect(Collectors.toList());
-
-                LOGGER.info("Module " + moduleCode + " has " + prerequisites.size()
-                        + " prerequisites: " + prerequisites);
-            }
-
-        } catch (Exception e) {
-            LOGGER.warning("Could not fetch details for " + moduleCode
-                    + ". Using default values. Error: " + e.getMessage());
-        }
-
-        Module newModule = new Module(modName, moduleCode, modCreds, modDescription, prerequisites, semOffered, -1);
-
-        newModule.setPrereqTree(prereqTreeNode);
-        addModule(newModule);
-
-        assert modules.containsKey(moduleCode) : "New module must be added to modules map.";
-        return newModule;
-    }
-
-    public HashMap<String, Module> getModules() {
-        return modules;
     }
 
     /**
-     * Adds a module to the modules map if it does not already exist.
+     * Creates Module objects for several module codes, fetching all uncached modules from NUSMods API concurrently.
+     * Modules that are invalid or could not be fetched are left out of the result.
      *
-     * @param module The module to be added.
+     * @param moduleCodes The module codes of the modules to be created.
+     * @return The created Module objects, keyed by module code in the order given.
      */
-    public void addModule(Module module) {
-        modules.putIfAbsent(module.getModCode(), module);
-    }
-
-    private boolean isValidModuleCode(String code) {
-        if (code == null || code.trim().isEmpty()) {
-            return false;
+    public Map<String, Module> createModules(Collection<String> moduleCodes) {
+        Map<String, Module> createdModules = new LinkedHashMap<>();
+        for (Map.Entry<String, ModuleDefinition> entry : registry.getOrFetchAll(moduleCodes).entrySet()) {
+            createdModules.put(entry.getKey(), new Module(entry.getValue()));
         }
-        return code.matches("^[A-Z]{2,3}\\d{4}[A-Z]?$");
+        return createdModules;
     }
 
-    private void extractModuleCodes(JsonNode node, List<String> result) {
-        if (node == null || node.isNull()) {
-            return;
-        }
-
-        if (node.isObject() && node.has("moduleCode")) {
-            String modCode = node.get("moduleCode").asText().trim();
-            if (!modCode.isEmpty()) {
-                modCode = stripGradeRequirement(modCode);
-                result.add(modCode);
-            }
-            return;
-        }
-
-        if (node.isArray()) {
-            for (JsonNode subNode : node) {
-                extractModuleCodes(subNode, result);
-            }
-            return;
-        }
-
-        if (node.isObject()) {
-            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
-            while (fields.hasNext()) {
-                Map.Entry<String, JsonNode> field = fields.next();
-                String fieldName = field.getKey();
-                if (fieldName.equals("and") || fieldName.equals("or")) {
-                    extractModuleCodes(field.getValue(), result);
-                }
-            }
-            return;
-        }
-
-        if (node.isTextual()) {
-            String text = node.asText().trim();
-
-            text = stripGradeRequirement(text);
-
-            if (text.matches("^[A-Z]{2,3}\\d{4}[A-Z]?$")) {
-                result.add(text);
-            }
-        }
-    }
-
-    private String stripGradeRequirement(String moduleCode) {
-        int colonIndex = moduleCode.indexOf(':');
-        if (colonIndex != -1) {
-            return moduleCode.substring(0, colonIndex);
-        }
-        return moduleCode;
-    }
-
-    private boolean isBridgingModule(String moduleCode) {
-
-        return moduleCode.equals("MA1301")
-                || moduleCode.equals("MA1301X")
-                || moduleCode.equals("MA1301FC")
-                || moduleCode.equals("PC1201");
+    /**
+     * Creates a Module object from module data saved with the study plan, without fetching from NUSMods API.
+     * The saved data is cached in the registry, replacing any cached data of the module.
+     *
+     * @param moduleCode       The module code.
+     * @param modName          The title of the module.
+     * @param modCreds         The number of module credits.
+     * @param modDescription   The description of the module.
+     * @param semOffered       The semester(s) the module is offered in.
+     * @param prereqExpression The prerequisites of the module, or null if it has none.
+     * @return The created Module object.
+     */
+    public Module restoreModule(String moduleCode, String modName, int modCreds, String modDescription,
+                                int semOffered, PrereqExpression prereqExpression) {
+        ModuleDefinition definition = ModuleDefinition.of(moduleCode, modName, modCreds, modDescription, semOffered,
+                prereqExpression);
+        registry.put(definition);
+        return new Module(definition);
     }
 
     /**
@@ -201,4 +102,3 @@ public class ModuleHandler {
         }
     }
 }
-
@@ -0,0 +1,138 @@
+package seedu.classcraft.studyplan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.classcraft.exceptions.NUSmodsFetcherException;
+import seedu.classcraft.nusmodsfetcher.ModuleInfo;
+import seedu.classcraft.nusmodsfetcher.NUSmodsFetcher;
+
+/**
+ * Process-wide cache of module definitions, shared by every study plan, storage and command.
+ * A module is fetched from NUSMods only when it is not cached. The cache holds a bounded number of
+ * definitions and evicts the least recently used one when full. It is safe to use from several threads;
+ * fetches run without holding the registry's lock.
+ */
+public final class ModuleRegistry {
+    static final int DEFAULT_CAPACITY = 1024;
+
+    private static final Logger LOGGER = Logger.getLogger(ModuleRegistry.class.getName());
+    private static final ModuleRegistry INSTANCE = new ModuleRegistry(DEFAULT_CAPACITY);
+
+    private final Map<String, ModuleDefinition> definitions;
+
+    ModuleRegistry(int capacity) {
+        assert capacity > 0 : "Registry capacity must be positive";
+        this.definitions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ModuleDefinition> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the registry shared by the whole process.
+     *
+     * @return The shared registry.
+     */
+    public static ModuleRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Looks up a cached definition, without fetching it.
+     *
+     * @param moduleCode The module code.
+     * @return The definition, or null if the module is not cached.
+     */
+    public synchronized ModuleDefinition get(String moduleCode) {
+        return definitions.get(moduleCode.toUpperCase());
+    }
+
+    /**
+     * Caches a definition, replacing any cached definition of the same module.
+     *
+     * @param definition The definition to cache.
+     */
+    public synchronized void put(ModuleDefinition definition) {
+        definitions.put(definition.getModCode().toUpperCase(), definition);
+    }
+
+    /**
+     * Returns the cached definition of a module, fetching it from NUSMods on a miss.
+     *
+     * @param moduleCode The module code.
+     * @return The definition.
+     * @throws NUSmodsFetcherException If the module is not cached and cannot be fetched.
+     */
+    public ModuleDefinition getOrFetch(String moduleCode) throws NUSmodsFetcherException {
+        ModuleDefinition definition = get(moduleCode);
+        if (definition != null) {
+            return definition;
+        }
+        definition = toDefinition(moduleCode, NUSmodsFetcher.fetchModuleInfo(moduleCode));
+        put(definition);
+        return definition;
+    }
+
+    /**
+     * Returns the definitions of several modules, fetching every module that is not cached concurrently.
+     * Modules that are invalid or could not be fetched are left out of the result.
+     *
+     * @param moduleCodes The module codes.
+     * @return The definitions, keyed by module code in the order given.
+     */
+    public Map<String, ModuleDefinition> getOrFetchAll(Collection<String> moduleCodes) {
+        Map<String, ModuleDefinition> found = new LinkedHashMap<>();
+        List<String> missingCodes = new ArrayList<>();
+        for (String moduleCode : moduleCodes) {
+            ModuleDefinition definition = get(moduleCode);
+            if (definition != null) {
+                found.put(moduleCode, definition);
+            } else {
+                missingCodes.add(moduleCode);
+            }
+        }
+
+        if (!missingCodes.isEmpty()) {
+            Map<String, ModuleInfo> fetchedModules = NUSmodsFetcher.fetchAllAsync(missingCodes).join();
+            for (Map.Entry<String, ModuleInfo> entry : fetchedModules.entrySet()) {
+                try {
+                    ModuleDefinition definition = toDefinition(entry.getKey(), entry.getValue());
+                    put(definition);
+                    found.put(entry.getKey(), definition);
+                } catch (NUSmodsFetcherException e) {
+                    LOGGER.warning("Could not create module " + entry.getKey() + ". Error: " + e.getMessage());
+                }
+            }
+        }
+
+        Map<String, ModuleDefinition> ordered = new LinkedHashMap<>();
+        for (String moduleCode : moduleCodes) {
+            if (found.containsKey(moduleCode)) {
+                ordered.put(moduleCode, found.get(moduleCode));
+            }
+        }
+        return ordered;
+    }
+
+    public synchronized int size() {
+        return definitions.size();
+    }
+
+    private static ModuleDefinition toDefinition(String moduleCode, ModuleInfo moduleInfo)
+            throws NUSmodsFetcherException {
+        ModuleDefinition definition = ModuleDefinition.of(moduleCode, moduleInfo.getTitle(),
+                moduleInfo.getModuleCredit(), moduleInfo.getDescription(), moduleInfo.getSemesterOffered(),
+                moduleInfo.getPrereqExpression());
+        LOGGER.log(Level.FINE, "Module " + moduleCode + " has " + definition.getPrerequisites().size()
+                + " prerequisites: " + definition.getPrerequisites());
+        return definition;
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.classcraft.studyplan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.classcraft.prerequisite.ModuleCode;
+
+/**
+ * Immutable view of a study plan at one point in time.
+ * {@link StudyPlan} publishes a new snapshot after every change, so readers such as {@code Ui} and the
+ * view commands can traverse a consistent plan without taking the plan's lock or blocking its writers.
+ * Modules are held as immutable {@link PlannedModule} placements, so later changes to the plan never show through.
+ */
+public final class PlanSnapshot {
+    private final int currentSemester;
+    private final List<List<PlannedModule>> semesters;
+    private final List<PlannedModule> exemptedModules;
+    private final int[] plannedSemesters;
+    private final BitSet exemptedModuleIds;
+    private final PlanStats stats;
+
+    PlanSnapshot(int currentSemester, List<? extends List<Module>> semesters, List<Module> exemptedModules,
+                 int[] plannedSemesters, BitSet exemptedModuleIds, PlanStats stats) {
+        this.currentSemester = currentSemester;
+        List<List<PlannedModule>> semesterCopies = new ArrayList<>(semesters.size());
+        for (List<Module> semester : semesters) {
+            List<PlannedModule> semesterModules = new ArrayList<>(semester.size());
+            for (Module module : semester) {
+                semesterModules.add(module.toPlannedModule());
+            }
+            semesterCopies.add(Collections.unmodifiableList(semesterModules));
+        }
+        this.semesters = Collections.unmodifiableList(semesterCopies);
+        List<PlannedModule> exemptedCopies = new ArrayList<>(exemptedModules.size());
+        for (Module module : exemptedModules) {
+            exemptedCopies.add(module.toPlannedModule());
+        }
+        this.exemptedModules = Collections.unmodifiableList(exemptedCopies);
+        this.stats = stats;
+        this.plannedSemesters = Arrays.copyOf(plannedSemesters, plannedSemesters.length);
+        this.exemptedModuleIds = (BitSet) exemptedModuleIds.clone();
+    }
+
+    public int getCurrentSemester() {
+        return currentSemester;
+    }
+
+    public int getTotalSemesters() {
+        return semesters.size();
+    }
+
+    /**
+     * Returns the modules planned in each semester, the first list being semester 1.
+     *
+     * @return The unmodifiable lists of planned modules.
+     */
+    public List<List<PlannedModule>> getSemesters() {
+        return semesters;
+    }
+
+    /**
+     * Returns the completed/exempted modules.
+     *
+     * @return The unmodifiable list of completed/exempted modules.
+     */
+    public List<PlannedModule> getExemptedModules() {
+        return exemptedModules;
+    }
+
+    /**
+     * Returns the module credit counters of the study plan when the snapshot was taken.
+     *
+     * @return The credit counters.
+     */
+    public PlanStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Returns the semester a module is planned in.
+     *
+     * @param moduleCode The module code to look up.
+     * @return The semester number (1-based), or 0 if the module is not planned.
+     */
+    public int getPlannedSemester(String moduleCode) {
+        int moduleId = ModuleCode.lookup(moduleCode);
+        if (moduleId < 0 || moduleId >= plannedSemesters.length) {
+            return 0;
+        }
+        return plannedSemesters[moduleId];
+    }
+
+    /**
+     * Checks if a module is planned, completed or exempted.
+     *
+     * @param moduleCode The module code to check.
+     * @return true if the module exists, false otherwise.
+     */
+    public boolean hasModule(String moduleCode) {
+        int moduleId = ModuleCode.lookup(moduleCode);
+        return getPlannedSemester(moduleCode) != 0 || (moduleId >= 0 && exemptedModuleIds.get(moduleId));
+    }
+}
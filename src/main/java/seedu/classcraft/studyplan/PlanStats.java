@@ -0,0 +1,87 @@
+package seedu.classcraft.studyplan;
+
+import java.util.Arrays;
+
+/**
+ * Read-only view of the module credit counters of a study plan at one point in time.
+ * {@link StudyPlan} updates its counters on every change instead of summing module lists,
+ * so every figure here is read in constant time.
+ */
+public final class PlanStats {
+    private final int currentSemester;
+    private final int[] semesterCredits;
+    private final int plannedCredits;
+    private final int completedCredits;
+    private final int exemptedCredits;
+
+    PlanStats(int currentSemester, int[] semesterCredits, int plannedCredits, int completedCredits,
+              int exemptedCredits) {
+        this.currentSemester = currentSemester;
+        this.semesterCredits = Arrays.copyOf(semesterCredits, semesterCredits.length);
+        this.plannedCredits = plannedCredits;
+        this.completedCredits = completedCredits;
+        this.exemptedCredits = exemptedCredits;
+    }
+
+    /**
+     * Returns the total credits for a specific semester or for the entire study plan.
+     *
+     * @param semesterIndex Index of the semester (0-based), with -1 returning total credits for the entire study plan.
+     * @return Total credits for the specified semester or entire study plan.
+     */
+    public int getCredits(int semesterIndex) {
+        if (semesterIndex == -1) {
+            return plannedCredits + getSecuredCredits();
+        }
+        if (semesterIndex < 0 || semesterIndex >= semesterCredits.length) {
+            throw new IllegalArgumentException("Semester " + (semesterIndex + 1) + " is invalid.");
+        }
+        return semesterCredits[semesterIndex];
+    }
+
+    /**
+     * Returns the credits of every module planned in a semester, completed or not.
+     */
+    public int getPlannedCredits() {
+        return plannedCredits;
+    }
+
+    /**
+     * Returns the credits of the modules planned in the current and later semesters.
+     */
+    public int getUncompletedCredits() {
+        return plannedCredits - completedCredits;
+    }
+
+    /**
+     * Returns the credits of the completed/exempted modules.
+     */
+    public int getExemptedCredits() {
+        return exemptedCredits;
+    }
+
+    /**
+     * Returns the credits of the completed/exempted modules and of every semester before the current one.
+     */
+    public int getSecuredCredits() {
+        return exemptedCredits + completedCredits;
+    }
+
+    /**
+     * Returns the share of the credits required for graduation that have been secured.
+     *
+     * @return The progress percentage, rounded to two decimal places.
+     */
+    public double getDegreeProgressPercentage() {
+        double percentage = ((double) getSecuredCredits() / StudyPlan.TOTAL_MCS_FOR_GRADUATION) * 100.0;
+        return Math.round(percentage * 100.0) / 100.0;
+    }
+
+    public int getCurrentSemester() {
+        return currentSemester;
+    }
+
+    public int getTotalSemesters() {
+        return semesterCredits.length;
+    }
+}
@@ -0,0 +1,12 @@
+package seedu.classcraft.studyplan;
+
+/**
+ * Immutable placement of a module in a study plan, as seen in a {@link PlanSnapshot}.
+ * The definition is shared with every other plan that holds the module.
+ *
+ * @param definition The catalog data of the module.
+ * @param semester   The semester the module is planned in (1-based), or 0 for a completed/exempted module.
+ * @param status     The status of the module in the plan.
+ */
+public record PlannedModule(ModuleDefinition definition, int semester, ModuleStatus status) {
+}
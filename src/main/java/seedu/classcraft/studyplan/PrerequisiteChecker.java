@@ -1,33 +1,24 @@
 package seedu.classcraft.studyplan;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import seedu.classcraft.exceptions.StudyPlanException;
+import seedu.classcraft.prerequisite.ModuleCode;
+import seedu.classcraft.prerequisite.PrereqExpression;
 
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Objects;
 import java.util.logging.Logger;
 import java.util.logging.Level;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
- * Validates module prerequisites by evaluating the prereqTree structure
- * Handles complex AND/OR logic properly
+ * Validates module prerequisites by evaluating the prerequisite expression of a module
+ * Handles complex AND/OR/nOf logic properly
  */
 public class PrerequisiteChecker {
 
     private static final Logger logger = Logger.getLogger(PrerequisiteChecker.class.getName());
-    private static boolean prereqRestoreSatisfied;
-
-    public static boolean isPrereqRestoreSatisfied() {
-        return prereqRestoreSatisfied;
-    }
-
-    public static void setPrereqRestoreSatisfied(boolean prereqRestoreSatisfied) {
-        PrerequisiteChecker.prereqRestoreSatisfied = prereqRestoreSatisfied;
-    }
 
     /**
      * Validates if prerequisites are satisfied before adding module.
@@ -35,44 +26,50 @@ public class PrerequisiteChecker {
      * @param module         The module to be added.
      * @param targetSemester The semester number (1-based index) to which the module is being added.
      * @param studyPlan      The current study plan instance.
+     * @throws StudyPlanException If the prerequisites are not satisfied.
      */
-    public static void validatePrerequisites(Module module, int targetSemester, StudyPlan studyPlan, boolean isRestore)
+    public static void validatePrerequisites(Module module, int targetSemester, StudyPlan studyPlan)
             throws StudyPlanException {
-        assert module != null : "Module cannot be null";
         assert studyPlan != null : "StudyPlan cannot be null";
         assert targetSemester > 0 : "Target semester must be positive";
+        validatePrerequisites(module, targetSemester, studyPlan.getCompletedModulesBefore(targetSemester));
+    }
+
+    /**
+     * Validates if prerequisites are satisfied by a given set of modules completed before the target semester.
+     * Used to check several modules that are being added together before any of them is added.
+     *
+     * @param module           The module to be added.
+     * @param targetSemester   The semester number (1-based index) to which the module is being added.
+     * @param completedModules The IDs of the modules completed before the target semester.
+     * @throws StudyPlanException If the prerequisites are not satisfied.
+     */
+    static void validatePrerequisites(Module module, int targetSemester, BitSet completedModules)
+            throws StudyPlanException {
+        assert module != null : "Module cannot be null";
         setLoggerLevel(logger);
 
         logger.log(Level.INFO, "Validating prerequisites for module {0} in semester {1}",
                 new Object[]{module.getModCode(), targetSemester});
 
-        JsonNode prereqTree = module.getPrereqTree();
+        PrereqExpression prereqExpression = module.getPrereqExpression();
 
-        if (prereqTree == null || prereqTree.isNull() || prereqTree.isMissingNode()) {
-            prereqRestoreSatisfied = true;
+        if (prereqExpression == null) {
             logger.log(Level.FINE, "Module {0} has no prerequisites", module.getModCode());
             return;
         }
 
-        Set<String> completedModules = getCompletedModules(targetSemester, studyPlan);
         logger.log(Level.FINE, "Completed modules before semester {0}: {1}",
                 new Object[]{targetSemester, completedModules});
 
-        boolean satisfied = evaluatePrereqTree(prereqTree, completedModules);
-
-        if (isRestore) {
-            prereqRestoreSatisfied = satisfied;
-            return;
-        }
-
-        if (!satisfied) {
+        if (!module.getCompiledPrereq().isSatisfiedBy(completedModules)) {
             logger.log(Level.WARNING, "Prerequisites not satisfied for module {0}", module.getModCode());
 
             // Build detailed error message showing what's completed
-            String prereqString = prettifyPrereqTree(prereqTree);
+            String prereqString = prereqExpression.describe();
             String completedMessage = completedModules.isEmpty()
                     ? "You have not completed any prerequisite modules."
-                    : "Completed modules: " + String.join(", ", completedModules);
+                    : "Completed modules: " + String.join(", ", toModuleCodes(completedModules));
 
             throw new StudyPlanException("Cannot add " + module.getModCode() + " to semester " + targetSemester +
                     ".\n\nRequired prerequisites: " + prereqString + "\n\n" +
@@ -84,269 +81,29 @@ public class PrerequisiteChecker {
     }
 
     /**
-     * Recursively evaluates the prerequisite tree
-     * Returns true if prerequisites are satisfied
-     * 
-     * @param node             Current JsonNode in the prerequisite tree.
-     * @param completedModules Set of completed module codes.
-     * @return true if prerequisites are satisfied, false otherwise.
-     */
-    private static boolean evaluatePrereqTree(JsonNode node, Set<String> completedModules) {
-        assert node != null : "JsonNode cannot be null";
-        assert completedModules != null : "Completed modules set cannot be null";
-
-        if (node == null || node.isNull() || node.isMissingNode()) {
-            return true;
-        }
-
-        if (node.isObject() && node.has("nOf")) {
-            return evaluateNOfNode(node.get("nOf"), completedModules);
-        }
-
-        if (node.isObject() && node.has("or")) {
-            boolean result = evaluateOrNode(node.get("or"), completedModules);
-            logger.log(Level.FINER, "OR node evaluation result: {0}", result);
-            return result;
-        }
-
-        if (node.isObject() && node.has("and")) {
-            boolean result = evaluateAndNode(node.get("and"), completedModules);
-            logger.log(Level.FINER, "AND node evaluation result: {0}", result);
-            return result;
-        }
-
-        if (node.isTextual()) {
-            return isModuleCompleted(node.asText(), completedModules);
-        }
-
-        if (node.isObject() && node.has("moduleCode")) {
-            return isModuleCompleted(node.get("moduleCode").asText(), completedModules);
-        }
-
-        return false;
-    }
-
-    private static boolean evaluateNOfNode(JsonNode nOfNode, Set<String> completedModules) {
-        int requiredCount = nOfNode.get(0).asInt();
-        JsonNode moduleList = nOfNode.get(1);
-        int completedCount = countCompletedModules(moduleList, completedModules);
-        return completedCount >= requiredCount;
-    }
-
-    private static int countCompletedModules(JsonNode moduleList, Set<String> completedModules) {
-        int count = 0;
-        for (JsonNode mod : moduleList) {
-            if (isNodeCompleted(mod, completedModules)) {
-                count++;
-            }
-        }
-        return count;
-    }
-
-    private static boolean isNodeCompleted(JsonNode mod, Set<String> completedModules) {
-        String modCode = extractModuleCode(mod);
-        if (modCode.isEmpty()) {
-            return false;
-        }
-        return completedModules.stream().anyMatch(c -> c.startsWith(modCode));
-    }
-
-    private static String extractModuleCode(JsonNode mod) {
-        if (mod.isTextual()) {
-            return stripGradeRequirement(mod.asText());
-        }
-        if (mod.has("moduleCode")) {
-            return mod.get("moduleCode").asText();
-        }
-        return "";
-    }
-
-    private static boolean evaluateOrNode(JsonNode orNode, Set<String> completedModules) {
-        assert orNode != null : "OR node cannot be null";
-        assert completedModules != null : "Completed modules set cannot be null";
-
-        if (!orNode.isArray()) {
-            return false;
-        }
-
-        for (JsonNode child : orNode) {
-            if (evaluatePrereqTree(child, completedModules)) {
-                logger.log(Level.FINEST, "OR condition satisfied by child node");
-                return true;
-            }
-        }
-        logger.log(Level.FINEST, "OR condition not satisfied");
-        return false;
-    }
-
-    private static boolean evaluateAndNode(JsonNode andNode, Set<String> completedModules) {
-        assert andNode != null : "AND node cannot be null";
-        assert completedModules != null : "Completed modules set cannot be null";
-
-        if (!andNode.isArray()) {
-            return true;
-        }
-
-        for (JsonNode child : andNode) {
-            if (!evaluatePrereqTree(child, completedModules)) {
-                logger.log(Level.FINEST, "AND condition failed on child node");
-                return false;
-            }
-        }
-        logger.log(Level.FINEST, "AND condition satisfied");
-        return true;
-    }
-
-    private static boolean isModuleCompleted(String moduleText, Set<String> completedModules) {
-        assert moduleText != null : "Module text cannot be null";
-        assert completedModules != null : "Completed modules set cannot be null";
-
-        String moduleCode = stripGradeRequirement(moduleText);
-
-        if (isBridgingModule(moduleCode)) {
-            logger.log(Level.FINEST, "Ignoring bridging module: {0}", moduleCode);
-            return true;
-        }
-
-        if (moduleCode.contains("%")) {
-            String baseCode = moduleCode.replace("%", "");
-
-            boolean found = completedModules.stream()
-                    .anyMatch(code -> code.startsWith(baseCode));
-
-            if (found) {
-                logger.log(Level.FINEST, "Module {0} matched wildcard pattern {1}",
-                        new Object[]{baseCode, moduleCode});
-            }
-            return found;
-        }
-
-        if (!isValidModuleCode(moduleCode)) {
-            logger.log(Level.WARNING, "Invalid module code format: {0}", moduleCode);
-            return false;
-        }
-
-        boolean completed = completedModules.contains(moduleCode);
-        logger.log(Level.FINEST, "Module {0} completion status: {1}", new Object[]{moduleCode, completed});
-        return completed;
-    }
-
-    private static boolean isValidModuleCode(String moduleCode) {
-        return moduleCode.matches("^[A-Z]{2,3}\\d{4}[A-Z]{0,2}$");
-    }
-
-    /**
-     * Gets all completed modules from previous semesters
+     * Checks if the prerequisites of a module are satisfied in a semester, without reporting anything.
+     * The result depends only on the given study plan, so plans can be checked from several threads at once.
+     *
+     * @param module         The module to check.
+     * @param targetSemester The semester number (1-based index) the module is in.
+     * @param studyPlan      The study plan to check against.
+     * @return true if the module has no prerequisites or they are all completed before the semester.
      */
-    private static Set<String> getCompletedModules(int targetSemester, StudyPlan studyPlan) {
-        assert studyPlan != null : "StudyPlan cannot be null";
+    public static boolean arePrerequisitesSatisfied(Module module, int targetSemester, StudyPlan studyPlan) {
+        assert module != null : "Module cannot be null";
         assert targetSemester > 0 : "Target semester must be positive";
-
-        Set<String> completedModules = new HashSet<>();
-        ArrayList<ArrayList<Module>> plan = studyPlan.getStudyPlan();
-
-        for (int sem = 0; sem < targetSemester - 1 && sem < plan.size(); sem++) {
-            for (Module mod : plan.get(sem)) {
-                completedModules.add(mod.getModCode());
-            }
-        }
-
-        completedModules.addAll(studyPlan.getExemptedModulesMap().keySet());
-
-        return completedModules;
-    }
-
-    /**
-     * Strips grade requirements from module codes (e.g., "CS1010:B" -> "CS1010")
-     */
-    private static String stripGradeRequirement(String moduleCode) {
-        int colonIndex = moduleCode.indexOf(':');
-        if (colonIndex != -1) {
-            return moduleCode.substring(0, colonIndex);
-        }
-
-        return moduleCode;
-    }
-
-    /**
-     * Checks if module is a bridging course that should be ignored
-     */
-    private static boolean isBridgingModule(String moduleCode) {
-        return moduleCode.equals("MA1301")
-                || moduleCode.equals("MA1301X")
-                || moduleCode.equals("MA1301FC")
-                || moduleCode.equals("PC1201");
-    }
-
-    /**
-     * Converts prereqTree to human-readable format
-     */
-    private static String prettifyPrereqTree(JsonNode node) {
-        if (node == null || node.isNull()) {
-            return "";
-        }
-
-        if (node.has("nOf")) {
-            JsonNode nOfNode = node.get("nOf");
-            int requiredCount = nOfNode.get(0).asInt();
-            JsonNode moduleList = nOfNode.get(1);
-            List<String> prereqDescs = new ArrayList<>();
-            for (JsonNode mod : moduleList) {
-                if (mod.isTextual()) {
-                    prereqDescs.add(prettifyModuleCode(mod.asText()));
-                } else if (mod.has("moduleCode")) {
-                    prereqDescs.add(prettifyModuleCode(mod.get("moduleCode").asText()));
-                }
-            }
-            return "Need " + requiredCount + " of these: " + String.join(" OR ", prereqDescs);
-        }
-
-        if (node.has("or")) {
-            return prettifyLogicNode(node.get("or"), " OR ");
-        }
-
-        if (node.has("and")) {
-            return prettifyLogicNode(node.get("and"), " AND ");
-        }
-
-        if (node.isTextual()) {
-            return prettifyModuleCode(node.asText());
-        }
-
-        if (node.has("moduleCode")) {
-            return prettifyModuleCode(node.get("moduleCode").asText());
-        }
-
-        return "";
-    }
-
-    private static String prettifyLogicNode(JsonNode logicNode, String separator) {
-        if (!logicNode.isArray()) {
-            return "";
-        }
-
-        List<String> parts = new ArrayList<>();
-        for (JsonNode child : logicNode) {
-            String part = prettifyPrereqTree(child);
-            if (!part.isEmpty()) {
-                parts.add(part);
-            }
+        if (module.getPrereqExpression() == null) {
+            return true;
         }
-
-        return parts.isEmpty() ? "" : "(" + String.join(separator, parts) + ")";
+        return module.getCompiledPrereq().isSatisfiedBy(studyPlan.getCompletedModulesBefore(targetSemester));
     }
 
-    private static String prettifyModuleCode(String moduleText) {
-        String code = stripGradeRequirement(moduleText);
-
-        if (code.contains("%")) {
-            return code.replaceAll("%", " (or any variant)");
-        }
-
-        if (!isBridgingModule(code) && isValidModuleCode(code)) {
-            return code;
+    private static List<String> toModuleCodes(BitSet moduleIds) {
+        List<String> moduleCodes = new ArrayList<>();
+        for (int id = moduleIds.nextSetBit(0); id >= 0; id = moduleIds.nextSetBit(id + 1)) {
+            moduleCodes.add(ModuleCode.valueOf(id));
         }
-        return "";
+        return moduleCodes;
     }
 
     /**
@@ -1,13 +1,17 @@
 package seedu.classcraft.studyplan;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import seedu.classcraft.exceptions.StudyPlanException;
-import seedu.classcraft.storage.Storage;
+import seedu.classcraft.prerequisite.ModuleCode;
+import seedu.classcraft.storage.PlanStore;
 
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -15,28 +19,30 @@ import java.util.logging.Level;
 
 
 /**
- * Creates a study plan based on modules added by user
+ * Creates a study plan based on modules added by user.
+ * All state belongs to the plan itself, so separate plans can be used side by side.
+ * Changes hold the plan's lock and then publish a new {@link PlanSnapshot}; views of the plan such as
+ * credits and progress are read from the latest snapshot without locking, so they never wait on a change.
  */
 public class StudyPlan {
     private static final int NUMBER_OF_SEMESTERS_IN_SAMPLE_PLAN = 8;
     private static final Logger LOGGER = Logger.getLogger(StudyPlan.class.getName());
-    private static int totalSemesters = 8;
-    private static int currentSemester = 1;
-    private static int numModules = 0;
+    private final int totalSemesters;
+    private int currentSemester = 1;
 
     /**
      * @@author lingru
      * Define the total MCs required for graduation.
      * (e.g., CEG/CS is 160 MCs). Adjust this value as needed.
      */
-    private static final int TOTAL_MCS_FOR_GRADUATION = 160;
+    static final int TOTAL_MCS_FOR_GRADUATION = 160;
 
     // --- Fields for PLANNED modules ---
     /**
      * Stores modules that are PLANNED for future semesters.
      */
     ArrayList<ArrayList<Module>> studyPlan = new ArrayList<>();
-    HashMap<String, Integer> modules; // stores moduleCode: semester
+    int[] plannedSemesters = new int[0]; // stores the semester of each module by module ID, 0 if not planned
 
     // @@author lingru
     // --- Fields for EXEMPTED modules---
@@ -46,30 +52,92 @@ public class StudyPlan {
      * These modules count towards degree progress but aren't in a specific semester.
      */
     private ArrayList<Module> exemptedModulesList;
-    private HashMap<String, Module> exemptedModulesMap;
+    private BitSet exemptedModuleIds;
     // @@author
 
+    /**
+     * Stores, for each semester, the IDs of all modules completed before it: every exempted module plus
+     * every module planned in an earlier semester. The last entry covers the whole plan.
+     * Kept up to date on every change so that prerequisite checks never rebuild the set.
+     */
+    private BitSet[] completedBeforeSemester;
+
+    /**
+     * Module credit counters, updated on every change so that credits and progress never sum module lists.
+     * completedCredits covers the semesters before the current one.
+     */
+    private final int[] semesterCredits;
+    private int plannedCredits = 0;
+    private int completedCredits = 0;
+    private int exemptedCredits = 0;
+
+    private final DependencyIndex dependencyIndex = new DependencyIndex();
+
     private ModuleHandler moduleHandler;
 
+    private volatile PlanSnapshot snapshot;
+
     public StudyPlan(int totalSemesters) {
         setLoggerLevel();
-        StudyPlan.totalSemesters = totalSemesters;
+        this.totalSemesters = totalSemesters;
         for (int i = 0; i < totalSemesters; i++) {
             ArrayList<Module> innerList = new ArrayList<>();
             studyPlan.add(innerList);
         }
-        this.modules = new HashMap<>();
         this.moduleHandler = new ModuleHandler();
 
         // @@author lingru
         this.exemptedModulesList = new ArrayList<>();
-        this.exemptedModulesMap = new HashMap<>();
-        StudyPlan.currentSemester = 1;
+        this.exemptedModuleIds = new BitSet();
+        this.semesterCredits = new int[totalSemesters];
+        this.completedBeforeSemester = new BitSet[totalSemesters + 1];
+        for (int i = 0; i < completedBeforeSemester.length; i++) {
+            completedBeforeSemester[i] = new BitSet();
+        }
         // @@author
+        publishSnapshot();
     }
 
-    public static int getCurrentSemester() {
-        return currentSemester;
+    public int getCurrentSemester() {
+        return snapshot.getCurrentSemester();
+    }
+
+    /**
+     * Returns the latest snapshot of the study plan, which reflects every change made so far.
+     * The snapshot never changes, so it can be read without holding any lock.
+     *
+     * @return The latest snapshot.
+     */
+    public PlanSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the module credit counters of the latest snapshot, without locking.
+     *
+     * @return The credit counters.
+     */
+    public PlanStats getStats() {
+        return snapshot.getStats();
+    }
+
+    private void publishSnapshot() {
+        PlanStats stats = new PlanStats(currentSemester, semesterCredits, plannedCredits, completedCredits,
+                exemptedCredits);
+        snapshot = new PlanSnapshot(currentSemester, studyPlan, exemptedModulesList, plannedSemesters,
+                exemptedModuleIds, stats);
+    }
+
+    /**
+     * Updates the credit counters for a module placed in (positive credits) or taken out of (negative credits)
+     * a semester.
+     */
+    private void countPlannedCredits(int semester, int credits) {
+        semesterCredits[semester - 1] += credits;
+        plannedCredits += credits;
+        if (semester < currentSemester) {
+            completedCredits += credits;
+        }
     }
 
     /**
@@ -82,7 +150,7 @@ public class StudyPlan {
      * @return The number of modules moved to COMPLETED.
      * @throws StudyPlanException If semester is invalid.
      */
-    public int setCurrentSemester(int newCurrentSemester, Storage storage, boolean isRestore) throws
+    public synchronized int setCurrentSemester(int newCurrentSemester, PlanStore storage, boolean isRestore) throws
             StudyPlanException {
         if (newCurrentSemester < 1 || newCurrentSemester > studyPlan.size()) {
             throw new StudyPlanException("Semester " + newCurrentSemester + " is invalid. " +
@@ -90,8 +158,12 @@ public class StudyPlan {
         }
 
         int modulesCompletedCount = 0;
-        int prevSemester = StudyPlan.currentSemester;
-        StudyPlan.currentSemester = newCurrentSemester;
+        int prevSemester = currentSemester;
+        currentSemester = newCurrentSemester;
+        completedCredits = 0;
+        for (int i = 0; i < newCurrentSemester - 1; i++) {
+            completedCredits += semesterCredits[i];
+        }
 
         if (!isRestore) {
             storage.addCompletionStatus(newCurrentSemester);
@@ -99,10 +171,9 @@ public class StudyPlan {
 
         if (newCurrentSemester < prevSemester) {
             for (int i = newCurrentSemester - 1; i < prevSemester - 1; i++) {
-                int semCreds = calculateSemCredits(i);
-                assert semCreds >= 0 : "Semester credits should be non-negative.";
-                modulesCompletedCount += numModules;
+                modulesCompletedCount += studyPlan.get(i).size();
             }
+            publishSnapshot();
             return modulesCompletedCount;
         }
 
@@ -118,17 +189,14 @@ public class StudyPlan {
                 modulesCompletedCount++;
             }
         }
+        publishSnapshot();
         return modulesCompletedCount;
     }
 
-    public static int getTotalSemesters() {
+    public int getTotalSemesters() {
         return totalSemesters;
     }
 
-    public static void setTotalSemesters(int totalSemesters) {
-        StudyPlan.totalSemesters = totalSemesters;
-    }
-
     /**
      * Adds a module to a specific semester in the study plan.
      *
@@ -136,36 +204,48 @@ public class StudyPlan {
      * @param semester The semester number (1-based index).
      * @throws IllegalArgumentException
      */
-    public void addModule(Module module, int semester) throws IllegalArgumentException {
+    public synchronized void addModule(Module module, int semester) throws IllegalArgumentException {
+        placeModule(module, semester);
+        publishSnapshot();
+    }
+
+    /**
+     * Places a module in a semester without publishing a snapshot, so that a change made of several
+     * modules is published once by the public method making it.
+     */
+    private void placeModule(Module module, int semester) throws IllegalArgumentException {
         if (semester < 1 || semester > studyPlan.size()) {
             throw new IllegalArgumentException("Semester " + semester + " is invalid.");
         }
 
-        if (modules.containsKey(module.getModCode())) {
+        int moduleId = module.getModuleId();
+        if (getPlannedSemester(moduleId) != 0) {
             throw new IllegalArgumentException("Module " + module.getModCode()
-                    + " is already PLANNED in Semester " + modules.get(module.getModCode()));
+                    + " is already PLANNED in Semester " + getPlannedSemester(moduleId));
         }
 
         // @@author lingru
-        if (exemptedModulesMap.containsKey(module.getModCode())) {
+        if (exemptedModuleIds.get(moduleId)) {
             throw new IllegalArgumentException("Module " + module.getModCode()
                     + " is already marked as EXEMPTED.");
         }
         // @@author
 
-        studyPlan.get(semester - 1).add(module);
-        modules.put(module.getModCode(), semester);
-
         module.setSemesterTaught(semester);
 
         // @@author lingru
         module.setStatus(ModuleStatus.PLANNED);
         // @@author
 
+        studyPlan.get(semester - 1).add(module);
+        countPlannedCredits(semester, module.getModCreds());
+        setPlannedSemester(moduleId, semester);
+        dependencyIndex.add(module);
+
         assert studyPlan.get(semester - 1).contains(module) :
                 "Module should be in the study plan list after adding.";
-        assert modules.containsKey(module.getModCode()) :
-                "Module code should be in the modules map after adding.";
+        assert getPlannedSemester(moduleId) == semester :
+                "Module should be recorded as planned after adding.";
     }
 
     /**
@@ -177,22 +257,117 @@ public class StudyPlan {
      * @param isRestored Indicates if the module is being restored from storage.
      * @throws Exception
      */
-    public void addModule(String moduleCode, int semester, Storage storage, boolean isRestored) throws Exception {
-        // Use ModuleHandler to fetch data and create the Module object
-        boolean isModAddedPrev = modules.containsKey(moduleCode);
-        int previousSemester = 0;
-        if (isModAddedPrev) {
-            previousSemester = modules.get(moduleCode);
+    public void addModule(String moduleCode, int semester, PlanStore storage, boolean isRestored) throws Exception {
+        // Use ModuleHandler to fetch data and create the Module object, without holding the plan's lock
+        Module newModule = moduleHandler.createModule(moduleCode);
+
+        synchronized (this) {
+            int previousSemester = getPlannedSemester(moduleCode);
+            boolean isModAddedPrev = previousSemester != 0;
+
+            PrerequisiteChecker.validatePrerequisites(newModule, semester, this);
+            checkOfferedInSemester(newModule, semester);
+
+            if (isModAddedPrev) {
+                storage.deleteModule(moduleCode, previousSemester);
+            }
+
+            placeModule(newModule, semester);
+            publishSnapshot();
+            if (!isRestored) {
+                storage.appendToFile(moduleCode, semester);
+            }
+        }
+
+        LOGGER.info("Added " + moduleCode + " to semester " + semester);
+    }
+
+    /**
+     * Adds several modules to the study plan at once, as a single change.
+     * All modules are fetched concurrently before the plan's lock is taken. The whole set is then validated
+     * in semester order, so a module may rely on another module of the set planned in an earlier semester.
+     * Nothing is added unless every module is valid, and the set is written to storage in one write.
+     *
+     * @param moduleSemesters The semester number (1-based index) to add each module to, keyed by module code.
+     * @param storage         Storage object for persistence.
+     * @throws Exception If a module cannot be fetched, is already in the plan or cannot be taken in its semester.
+     */
+    public void addModules(Map<String, Integer> moduleSemesters, PlanStore storage) throws Exception {
+        Map<String, Module> newModules = moduleHandler.createModules(moduleSemesters.keySet());
+        for (String moduleCode : moduleSemesters.keySet()) {
+            if (!newModules.containsKey(moduleCode)) {
+                throw new Exception("Module code " + moduleCode + " is invalid or could not be fetched from NUSMods.");
+            }
         }
 
-        Module newModule = moduleHandler.createModule(moduleCode);
+        List<String> orderedCodes = new ArrayList<>(moduleSemesters.keySet());
+        orderedCodes.sort(Comparator.comparingInt(moduleSemesters::get));
+
+        synchronized (this) {
+            // Modules of the set planned in each semester, which count as completed from the next semester on
+            BitSet[] batchBeforeSemester = new BitSet[studyPlan.size()];
+            for (int i = 0; i < batchBeforeSemester.length; i++) {
+                batchBeforeSemester[i] = new BitSet();
+            }
+
+            for (String moduleCode : orderedCodes) {
+                Module module = newModules.get(moduleCode);
+                int semester = moduleSemesters.get(moduleCode);
+                if (semester < 1 || semester > studyPlan.size()) {
+                    throw new IllegalArgumentException("Semester " + semester + " is invalid.");
+                }
+                if (hasModule(moduleCode)) {
+                    throw new StudyPlanException("Module " + moduleCode + " is already in the study plan.");
+                }
 
-        PrerequisiteChecker.validatePrerequisites(newModule, semester, this, false);
+                BitSet completedModules = getCompletedModulesBefore(semester);
+                completedModules.or(batchBeforeSemester[semester - 1]);
+                PrerequisiteChecker.validatePrerequisites(module, semester, completedModules);
+                checkOfferedInSemester(module, semester);
+
+                for (int i = semester; i < batchBeforeSemester.length; i++) {
+                    batchBeforeSemester[i].set(module.getModuleId());
+                }
+            }
 
-        int semesterOffered = newModule.getSemesterTaught();
+            // Written first, so that a failed write leaves the plan without any of the modules
+            storage.appendModules(moduleSemesters);
+            for (String moduleCode : orderedCodes) {
+                placeModule(newModules.get(moduleCode), moduleSemesters.get(moduleCode));
+            }
+            publishSnapshot();
+        }
+
+        LOGGER.info("Added " + moduleSemesters.size() + " modules: " + String.join(", ", orderedCodes));
+    }
+
+    /**
+     * Adds the modules of one semester restored from storage to the study plan, publishing one snapshot.
+     * The modules have already been fetched and their prerequisites checked, so only the semester they are
+     * offered in is checked here, and nothing is written back to storage.
+     *
+     * @param modules  The restored modules.
+     * @param semester The semester number (1-based index).
+     * @throws Exception If a module is not offered in the semester or is already in the plan.
+     */
+    public synchronized void restoreModules(List<Module> modules, int semester) throws Exception {
+        for (Module module : modules) {
+            checkOfferedInSemester(module, semester);
+        }
+        try {
+            for (Module module : modules) {
+                placeModule(module, semester);
+            }
+        } finally {
+            publishSnapshot();
+        }
+    }
+
+    private void checkOfferedInSemester(Module module, int semester) throws Exception {
+        int semesterOffered = module.getSemesterOffered();
 
         if (semesterOffered == 0) {
-            throw new StudyPlanException("Module " + newModule.getModCode() +
+            throw new StudyPlanException("Module " + module.getModCode() +
                     " is not offered in any semester.");
         }
 
@@ -200,21 +375,10 @@ public class StudyPlan {
 
         if (!isValidSemester) {
             String offeringPattern = getOfferingDescription(semesterOffered);
-            throw new Exception("Module " + newModule.getModCode() +
+            throw new Exception("Module " + module.getModCode() +
                     " is offered in " + offeringPattern +
                     ", not in semester " + semester + ".");
         }
-
-        if (isModAddedPrev) {
-            storage.deleteModule(moduleCode, previousSemester);
-        }
-
-        addModule(newModule, semester);
-        if (!isRestored) {
-            storage.appendToFile(moduleCode, semester);
-        }
-
-        LOGGER.info("Added " + moduleCode + " to semester " + semester);
     }
 
     /**
@@ -265,138 +429,49 @@ public class StudyPlan {
      * @param moduleString The module code to be removed.
      * @param storage      Storage object for persistence.
      */
-    public void removeModule(String moduleString, Storage storage) throws StudyPlanException {
-        if (!modules.containsKey(moduleString) && !exemptedModulesMap.containsKey(moduleString)) {
+    public synchronized void removeModule(String moduleString, PlanStore storage) throws StudyPlanException {
+        int moduleId = ModuleCode.lookup(moduleString);
+        int sem = getPlannedSemester(moduleId);
+        boolean isExempted = moduleId >= 0 && exemptedModuleIds.get(moduleId);
+        if (sem == 0 && !isExempted) {
             LOGGER.warning("Module " + moduleString + " does not exist in study plan.");
             throw new StudyPlanException("Module " + moduleString + " does not exist");
         }
 
-        List<String> dependentModules = checkForDependentModules(moduleString);
+        List<String> dependentModules = dependencyIndex.getDependents(moduleString);
         if (!dependentModules.isEmpty()) {
             throw new StudyPlanException("Cannot delete " + moduleString + " because it is a prerequisite for: " +
                     String.join(", ", dependentModules) + "\n\n" +
                     "Please delete those modules first before deleting " + moduleString + ".");
         }
 
-        if (modules.containsKey(moduleString)) {
-            Integer sem = modules.get(moduleString);
+        if (sem != 0) {
             for (int i = 0; i < studyPlan.get(sem - 1).size(); i++) {
-                if (Objects.equals(studyPlan.get(sem - 1).get(i).getModCode(), moduleString)) {
-                    studyPlan.get(sem - 1).remove(i);
+                if (studyPlan.get(sem - 1).get(i).getModuleId() == moduleId) {
+                    Module removedModule = studyPlan.get(sem - 1).remove(i);
+                    countPlannedCredits(sem, -removedModule.getModCreds());
+                    dependencyIndex.remove(removedModule);
                     break;
                 }
             }
-            modules.remove(moduleString);
+            setPlannedSemester(moduleId, 0);
+            publishSnapshot();
             storage.deleteModule(moduleString, sem);
             LOGGER.info("Removed " + moduleString + " from semester " + sem);
 
-        } else if (exemptedModulesMap.containsKey(moduleString)) {
-            Module modToRemove = exemptedModulesMap.get(moduleString);
-            exemptedModulesList.remove(modToRemove);
-            exemptedModulesMap.remove(moduleString);
+        } else {
+            Module removedModule = findExemptedModule(moduleId);
+            dependencyIndex.remove(removedModule);
+            exemptedModulesList.remove(removedModule);
+            exemptedCredits -= removedModule.getModCreds();
+            setExempted(moduleId, false);
+            publishSnapshot();
             storage.deleteSecuredModule(moduleString);
             LOGGER.info("Removed " + moduleString + " from completed modules list.");
         }
 
     }
 
-    /**
-     * Checks if the given module is a prerequisite for any other module in the study plan.
-     * Returns a list of modules that depend on the given module.
-     *
-     * @param moduleCode The module code to check.
-     * @return List of dependent modules that have this module as a prerequisite.
-     */
-    private List<String> checkForDependentModules(String moduleCode) {
-        List<String> dependentModules = new ArrayList<>();
-
-        for (Module module : getAllModules()) {
-            if (module.getModCode().equals(moduleCode)) {
-                continue;
-            }
-
-            if (isModuleDependentOn(module, moduleCode)) {
-                dependentModules.add(module.getModCode());
-            }
-        }
-        return dependentModules;
-    }
-
-    /**
-     * Checks if a module is dependent on another module as a prerequisite
-     */
-    private boolean isModuleDependentOn(Module module, String moduleCode) {
-        if (hasPrerequisiteInList(module.getPrerequisites(), moduleCode)) {
-            return true;
-        }
-
-        return hasPrerequisiteInTree(module.getPrereqTree(), moduleCode);
-    }
-
-    /**
-     * Checks if a prerequisite list contains the given module code
-     */
-    private boolean hasPrerequisiteInList(List<String> prerequisites, String moduleCode) {
-        if (prerequisites == null) {
-            return false;
-        }
-
-        return prerequisites.stream()
-                .anyMatch(prereq -> isPrerequisiteMatch(moduleCode, prereq));
-    }
-
-    /**
-     * Checks if a prereqTree (JsonNode) contains the given module code
-     */
-    private boolean hasPrerequisiteInTree(JsonNode prereqTree, String moduleCode) {
-        if (prereqTree == null || prereqTree.isNull() || !prereqTree.isTextual()) {
-            return false;
-        }
-
-        String prereqText = prereqTree.asText();
-        return isPrerequisiteMatch(moduleCode, prereqText);
-    }
-
-    /**
-     * Checks if moduleCode satisfies the prerequisite requirement.
-     * Handles both exact matches and wildcard patterns like "CS1010%"
-     *
-     * @param moduleCode The module code to check (e.g., "CS1010").
-     * @param prereq     The prerequisite requirement (e.g., "CS1010" or "CS1010%").
-     * @return true if moduleCode matches the prerequisite.
-     */
-    private boolean isPrerequisiteMatch(String moduleCode, String prereq) {
-        String cleanPrereq = prereq.replaceAll(":%[A-Z]", "").replaceAll(":[A-Z]", "");
-
-        if (moduleCode.equals(cleanPrereq)) {
-            return true;
-        }
-
-        if (cleanPrereq.contains("%")) {
-            String baseCode = cleanPrereq.replace("%", "");
-            return moduleCode.startsWith(baseCode);
-        }
-
-        return false;
-    }
-
-    /**
-     * Gets all modules in the study plan (both planned and completed)
-     *
-     * @return List of all modules.
-     */
-    private List<Module> getAllModules() {
-        List<Module> allModules = new ArrayList<>();
-
-        for (ArrayList<Module> semester : studyPlan) {
-            allModules.addAll(semester);
-        }
-
-        allModules.addAll(exemptedModulesList);
-
-        return allModules;
-    }
-
     /**
      * @author lingru
      * @param moduleCode The code of the module to add.
@@ -406,91 +481,134 @@ public class StudyPlan {
      * @throws Exception If module fetching fails or module is already in the plan.
      */
     public void addExemptedModule(String moduleCode, ModuleStatus status,
-                                  Storage storage, boolean isRestored) throws Exception {
+                                  PlanStore storage, boolean isRestored) throws Exception {
 
         if (status == ModuleStatus.PLANNED) {
             throw new IllegalArgumentException("Use addModule() for planned modules.");
         }
 
-        if (exemptedModulesMap.containsKey(moduleCode)) {
-            if (isRestored) {
-                return;
-            }
-            throw new StudyPlanException("Module " + moduleCode + " is already marked as "
-                    + exemptedModulesMap.get(moduleCode).getStatus());
+        // Fetch the module without holding the plan's lock; a module that is already planned is moved instead
+        Module fetchedModule = null;
+        Exception fetchError = null;
+        try {
+            fetchedModule = moduleHandler.createModule(moduleCode);
+        } catch (Exception e) {
+            fetchError = e;
         }
 
-        Module moduleToMove = null;
-        boolean wasMoved = false;
-        Integer sem = 0;
-
-        if (modules.containsKey(moduleCode)) {
-            LOGGER.info("Module " + moduleCode + " is PLANNED. Moving it to " + status.toString());
-            sem = modules.get(moduleCode);
-            ArrayList<Module> semesterList = studyPlan.get(sem - 1);
-
-            for (int i = 0; i < semesterList.size(); i++) {
-                if (Objects.equals(semesterList.get(i).getModCode(), moduleCode)) {
-                    moduleToMove = semesterList.remove(i);
-                    wasMoved = true;
-                    break;
+        synchronized (this) {
+            Module exemptedModule = findExemptedModule(ModuleCode.lookup(moduleCode));
+            if (exemptedModule != null) {
+                if (isRestored) {
+                    return;
                 }
+                throw new StudyPlanException("Module " + moduleCode + " is already marked as "
+                        + exemptedModule.getStatus());
             }
-            modules.remove(moduleCode);
-        }
 
-        if (moduleToMove == null) {
-            moduleToMove = moduleHandler.createModule(moduleCode);
-        }
+            Module moduleToMove = null;
+            boolean wasMoved = false;
+            int sem = getPlannedSemester(moduleCode);
+
+            if (sem != 0) {
+                LOGGER.info("Module " + moduleCode + " is PLANNED. Moving it to " + status.toString());
+                int moduleId = ModuleCode.lookup(moduleCode);
+                ArrayList<Module> semesterList = studyPlan.get(sem - 1);
+
+                for (int i = 0; i < semesterList.size(); i++) {
+                    if (semesterList.get(i).getModuleId() == moduleId) {
+                        moduleToMove = semesterList.remove(i);
+                        countPlannedCredits(sem, -moduleToMove.getModCreds());
+                        dependencyIndex.remove(moduleToMove);
+                        wasMoved = true;
+                        break;
+                    }
+                }
+                setPlannedSemester(moduleId, 0);
+            }
 
-        JsonNode prereqTree = moduleToMove.getPrereqTree();
-        if (!(prereqTree == null || prereqTree.isNull() || prereqTree.isMissingNode())) {
-            throw new StudyPlanException("Cannot exempt module " + moduleCode.toUpperCase() +
-                    ". Only modules without prerequisites can be exempted.");
-        }
+            if (moduleToMove == null) {
+                if (fetchError != null) {
+                    throw fetchError;
+                }
+                moduleToMove = fetchedModule;
+            }
 
-        moduleToMove.setStatus(status);
-        exemptedModulesList.add(moduleToMove);
-        exemptedModulesMap.put(moduleCode, moduleToMove);
+            try {
+                markExempted(moduleToMove, status);
+            } finally {
+                // A planned module has already been taken out of its semester
+                publishSnapshot();
+            }
 
-        if (!isRestored) {
-            storage.saveSecuredModule(moduleToMove);
-            if (wasMoved) {
-                storage.deleteModule(moduleCode, sem);
+            if (!isRestored) {
+                storage.saveSecuredModule(moduleToMove);
+                if (wasMoved) {
+                    storage.deleteModule(moduleCode, sem);
+                }
             }
         }
+
         LOGGER.info("Added " + moduleCode + " as " + status.toString());
     }
 
     /**
-     * @author lingru
-     * @return The progress percentage, rounded to two decimal places.
+     * Adds completed/exempted modules restored from storage, which have already been fetched,
+     * publishing one snapshot. Each module keeps the status it was given (COMPLETED or EXEMPTED),
+     * and nothing is written back to storage.
+     *
+     * @param modules The restored modules.
+     * @throws StudyPlanException If a module has prerequisites, in which case none of the modules is added.
      */
-    public double getDegreeProgressPercentage() {
-
-        int totalSecuredMCs = getTotalSecuredMCs();
+    public synchronized void restoreExemptedModules(List<Module> modules) throws StudyPlanException {
+        for (Module module : modules) {
+            assert module.getStatus() != ModuleStatus.PLANNED : "Use restoreModules() for planned modules.";
+            if (module.hasPrereqs()) {
+                throw new StudyPlanException("Cannot exempt module " + module.getModCode().toUpperCase() +
+                        ". Only modules without prerequisites can be exempted.");
+            }
+        }
+        for (Module module : modules) {
+            if (findExemptedModule(module.getModuleId()) == null) {
+                markExempted(module, module.getStatus());
+            }
+        }
+        publishSnapshot();
+    }
 
-        double percentage = ((double) totalSecuredMCs / TOTAL_MCS_FOR_GRADUATION) * 100.0;
+    private void markExempted(Module module, ModuleStatus status) throws StudyPlanException {
+        if (module.hasPrereqs()) {
+            throw new StudyPlanException("Cannot exempt module " + module.getModCode().toUpperCase() +
+                    ". Only modules without prerequisites can be exempted.");
+        }
 
-        return Math.round(percentage * 100.0) / 100.0;
+        module.setStatus(status);
+        module.setSemesterTaught(0);
+        exemptedModulesList.add(module);
+        exemptedCredits += module.getModCreds();
+        setExempted(module.getModuleId(), true);
+        dependencyIndex.add(module);
     }
 
     /**
-     * Fetches the map of completed/exempted modules.
-     * 
-     * @return The HashMap of completed/exempted modules.
+     * @author lingru
+     * @return The progress percentage, rounded to two decimal places.
      */
-    public HashMap<String, Module> getExemptedModulesMap() {
-        return exemptedModulesMap;
+    public double getDegreeProgressPercentage() {
+        return getStats().getDegreeProgressPercentage();
     }
 
     /**
-     * Fetches the list of completed/exempted modules.
-     * 
-     * @return The ArrayList of completed/exempted modules.
+     * Fetches the IDs of all modules completed before a semester, i.e. the exempted modules
+     * and the modules planned in earlier semesters.
+     * The returned set is a copy, so later changes to the plan do not show through it.
+     *
+     * @param semester The semester (1-based). Semesters past the end of the plan see every planned module.
+     * @return The set of completed module IDs.
      */
-    public ArrayList<Module> getExemptedModulesList() {
-        return exemptedModulesList;
+    public synchronized BitSet getCompletedModulesBefore(int semester) {
+        assert semester > 0 : "Semester must be positive";
+        return (BitSet) completedBeforeSemester[Math.min(semester, completedBeforeSemester.length) - 1].clone();
     }
 
     /**
@@ -499,16 +617,7 @@ public class StudyPlan {
      * @return Total secured MCs.
      */
     public int getTotalSecuredMCs() {
-        int totalSecuredMCs = 0;
-        for (Module mod : exemptedModulesList) {
-            totalSecuredMCs += mod.getModCreds();
-        }
-        for (int i = 0; i < currentSemester - 1; i++) {
-            int semCreds = calculateSemCredits(i);
-            assert semCreds >= 0 : "Semester credits should be non-negative.";
-            totalSecuredMCs += semCreds;
-        }
-        return totalSecuredMCs;
+        return getStats().getSecuredCredits();
     }
 
     /**
@@ -525,17 +634,79 @@ public class StudyPlan {
      * @return true if the module exists, false otherwise.
      */
     public boolean hasModule(String moduleCode) {
-        return modules.containsKey(moduleCode) || exemptedModulesMap.containsKey(moduleCode);
+        return snapshot.hasModule(moduleCode);
     }
     // @@author
 
+    /**
+     * Returns the semester a module is planned in.
+     *
+     * @param moduleCode The module code to look up.
+     * @return The semester number (1-based), or 0 if the module is not planned.
+     */
+    public int getPlannedSemester(String moduleCode) {
+        return getPlannedSemester(ModuleCode.lookup(moduleCode));
+    }
+
+    /**
+     * Returns the semester a module is planned in.
+     *
+     * @param moduleId The ID of the module code, or -1 for a code that was never interned.
+     * @return The semester number (1-based), or 0 if the module is not planned.
+     */
+    public synchronized int getPlannedSemester(int moduleId) {
+        if (moduleId < 0 || moduleId >= plannedSemesters.length) {
+            return 0;
+        }
+        return plannedSemesters[moduleId];
+    }
+
+    private void setPlannedSemester(int moduleId, int semester) {
+        if (moduleId >= plannedSemesters.length) {
+            if (semester == 0) {
+                return;
+            }
+            plannedSemesters = Arrays.copyOf(plannedSemesters, Math.max(moduleId + 1, plannedSemesters.length * 2));
+        }
+        int previousSemester = plannedSemesters[moduleId];
+        plannedSemesters[moduleId] = semester;
+
+        // A module planned in semester k counts as completed from semester k + 1 onwards
+        if (previousSemester != 0) {
+            for (int i = previousSemester; i < completedBeforeSemester.length; i++) {
+                completedBeforeSemester[i].clear(moduleId);
+            }
+        }
+        if (semester != 0) {
+            for (int i = semester; i < completedBeforeSemester.length; i++) {
+                completedBeforeSemester[i].set(moduleId);
+            }
+        }
+    }
+
+    private void setExempted(int moduleId, boolean isExempted) {
+        exemptedModuleIds.set(moduleId, isExempted);
+        for (BitSet completedModules : completedBeforeSemester) {
+            completedModules.set(moduleId, isExempted);
+        }
+    }
 
-    public ArrayList<ArrayList<Module>> getStudyPlan() {
-        return studyPlan;
+    private Module findExemptedModule(int moduleId) {
+        if (moduleId < 0 || !exemptedModuleIds.get(moduleId)) {
+            return null;
+        }
+        for (Module module : exemptedModulesList) {
+            if (module.getModuleId() == moduleId) {
+                return module;
+            }
+        }
+        return null;
     }
 
+
     /**
      * Creates a sample study plan for demonstration purposes.
+     * All sample modules are fetched concurrently before being placed into their semesters.
      *
      * @return A StudyPlan object populated with sample modules.
      */
@@ -543,35 +714,31 @@ public class StudyPlan {
         StudyPlan samplePlan = new StudyPlan(NUMBER_OF_SEMESTERS_IN_SAMPLE_PLAN);
         ModuleHandler handler = samplePlan.moduleHandler;
 
-        try {
-
-            // Semester 1
-            Module cs1010 = handler.createModule("CS1010");
-            samplePlan.addModule(cs1010, 1);
-
-            Module ma1511 = handler.createModule("MA1511");
-            samplePlan.addModule(ma1511, 1);
-
-            // Semester 2
-            Module cs2030s = handler.createModule("CS2030S");
-            samplePlan.addModule(cs2030s, 2);
+        Map<String, Integer> sampleModules = new LinkedHashMap<>();
+        // Semester 1
+        sampleModules.put("CS1010", 1);
+        sampleModules.put("MA1511", 1);
+        // Semester 2
+        sampleModules.put("CS2030S", 2);
+        sampleModules.put("EE2026", 2);
+        // Semester 3
+        sampleModules.put("CS2040S", 3);
 
-            Module ee2026 = handler.createModule("EE2026");
-            samplePlan.addModule(ee2026, 2);
-
-            // Semester 3
-            Module cs2040s = handler.createModule("CS2040S");
-            samplePlan.addModule(cs2040s, 3);
-
-            // @@author lingru
-            // Example of adding a completed module (e.g., from poly exemption)
-            // samplePlan.addCompletedModule("CS1010", ModuleStatus.EXEMPTED);
-            // Note: This line is commented out, but shows how *could* add to the sample.
-            // If add this, make sure to remove the "addModule(cs1010, 1)" above.
-            // @@author
+        // @@author lingru
+        // Example of adding a completed module (e.g., from poly exemption)
+        // samplePlan.addCompletedModule("CS1010", ModuleStatus.EXEMPTED);
+        // Note: This line is commented out, but shows how *could* add to the sample.
+        // If add this, make sure to remove the "CS1010" entry above.
+        // @@author
 
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error creating sample study plan module: " + e.getMessage(), e);
+        Map<String, Module> fetchedModules = handler.createModules(sampleModules.keySet());
+        for (Map.Entry<String, Integer> entry : sampleModules.entrySet()) {
+            Module module = fetchedModules.get(entry.getKey());
+            if (module == null) {
+                LOGGER.log(Level.SEVERE, "Error creating sample study plan module: " + entry.getKey());
+                continue;
+            }
+            samplePlan.addModule(module, entry.getValue());
         }
 
         return samplePlan;
@@ -595,42 +762,7 @@ public class StudyPlan {
      * @return Total credits for the specified semester or entire study plan.
      */
     public int calculateSemCredits(int semesterIndex) {
-        numModules = 0;
-        if (semesterIndex == -1) {
-            return calculateTotalCredits();
-        }
-
-        if (semesterIndex < 0 || semesterIndex >= studyPlan.size()) {
-            LOGGER.warning("Semester " + (semesterIndex + 1) + " is invalid.");
-            throw new IllegalArgumentException("Semester " + (semesterIndex + 1) + " is invalid.");
-        }
-
-        int semesterCredits = 0;
-        for (Module module : studyPlan.get(semesterIndex)) {
-            assert module.getModCreds() >= 0 : "Module credits should be non-negative.";
-            semesterCredits += module.getModCreds();
-            numModules++;
-        }
-        return semesterCredits;
-    }
-
-    /**
-     * Calculates the total module credits in the entire study plan.
-     * This now includes BOTH planned and secured (completed/exempted) modules.
-     *
-     * @return Total credits for the entire study plan.
-     */
-    private int calculateTotalCredits() {
-        int totalPlannedCredits = 0;
-        for (int i = 0; i < studyPlan.size(); i++) {
-            int semCreds = calculateSemCredits(i);
-            assert semCreds >= 0 : "Semester credits should be non-negative.";
-            totalPlannedCredits += semCreds;
-        }
-
-        int totalSecuredCredits = getTotalSecuredMCs();
-
-        return totalPlannedCredits + totalSecuredCredits;
+        return getStats().getCredits(semesterIndex);
     }
     // @@author
 
@@ -639,17 +771,15 @@ public class StudyPlan {
      * Indicates to the user which semesters have a high workload (2 or more modules than their average workload).
      */
     public void checkStudyPlan() {
-        int totalUncompletedCredits = 0;
-        for (int i = currentSemester - 1; i < studyPlan.size(); i++) {
-            int semCreds = calculateSemCredits(i);
-            assert semCreds >= 0 : "Semester credits should be non-negative.";
-            totalUncompletedCredits += semCreds;
-        }
+        PlanStats stats = getStats();
+        int currentSemester = stats.getCurrentSemester();
+        int totalUncompletedCredits = stats.getUncompletedCredits();
+        assert totalUncompletedCredits >= 0 : "Semester credits should be non-negative.";
 
-        int numberOfSems = studyPlan.size() - currentSemester + 1;
+        int numberOfSems = stats.getTotalSemesters() - currentSemester + 1;
         int numberOfHighWorkloadSemesters = 0;
         for (int i = currentSemester - 1; i < numberOfSems; i++) {
-            if (calculateSemCredits(i) > (totalUncompletedCredits / numberOfSems) + 5) {
+            if (stats.getCredits(i) > (totalUncompletedCredits / numberOfSems) + 5) {
                 System.out.println("Semester " + (i + 1) + " has a high workload. Please consider moving some modules" +
                         " to other semesters instead");
                 numberOfHighWorkloadSemesters++;
@@ -1,11 +1,13 @@
 package seedu.classcraft.ui;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import seedu.classcraft.studyplan.StudyPlan;
-import seedu.classcraft.studyplan.Module;
+import seedu.classcraft.prerequisite.PrereqExpression;
+import seedu.classcraft.studyplan.ModuleDefinition;
+import seedu.classcraft.studyplan.PlanSnapshot;
+import seedu.classcraft.studyplan.PlannedModule;
 
 import java.net.URL;
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -37,27 +39,28 @@ public class Ui {
      * Prints the contents of a study plan, showing modules by semester.
      * Now also displays Completed/Exempted modules first.
      *
-     * @param plan  The study plan data (either current or sample).
+     * @param plan  A snapshot of the study plan (either current or sample).
      * @param title The title to display (e.g., "CEG Sample Study Plan").
      */
-    private void displayStudyPlan(StudyPlan plan, String title, boolean sample) {
+    private void displayStudyPlan(PlanSnapshot plan, String title, boolean sample) {
         System.out.print(line);
         System.out.println(title);
         System.out.print(line);
 
-        ArrayList<Module> completedMods = plan.getExemptedModulesList();
+        List<PlannedModule> completedMods = plan.getExemptedModules();
         if (completedMods != null && !completedMods.isEmpty()) {
             System.out.println("Exempted Modules:");
-            for (Module mod : completedMods) {
-                System.out.println("  - " + mod.getModCode() + " (" + mod.getModName() + ") - "
-                        + mod.getStatus().toString());
+            for (PlannedModule mod : completedMods) {
+                ModuleDefinition definition = mod.definition();
+                System.out.println("  - " + definition.getModCode() + " (" + definition.getModName() + ") - "
+                        + mod.status().toString());
             }
             System.out.print(line);
         }
 
-        int currentSemester = StudyPlan.getCurrentSemester();
+        int currentSemester = plan.getCurrentSemester();
 
-        ArrayList<ArrayList<Module>> planData = plan.getStudyPlan();
+        List<List<PlannedModule>> planData = plan.getSemesters();
 
         for (int i = 0; i < planData.size(); i++) {
             if (!sample && (i + 1 < currentSemester)) {
@@ -65,26 +68,28 @@ public class Ui {
             } else {
                 System.out.println("Semester " + (i + 1) + ":");
             }
-            ArrayList<Module> semesterMods = planData.get(i);
+            List<PlannedModule> semesterMods = planData.get(i);
 
             if (semesterMods.isEmpty()) {
                 System.out.println("  (Empty)");
                 continue;
             }
 
-            for (Module mod : semesterMods) {
-                String prereqsInfo = mod.getPrerequisitesDisplay();
-                System.out.println("  - " + mod.getModCode() + " (" + mod.getModName() + ")" + prereqsInfo);
+            for (PlannedModule mod : semesterMods) {
+                ModuleDefinition definition = mod.definition();
+                String prereqsInfo = definition.getPrerequisitesDisplay();
+                System.out.println("  - " + definition.getModCode() + " (" + definition.getModName() + ")"
+                        + prereqsInfo);
             }
         }
         System.out.print(line);
     }
 
-    public void displaySamplePlan(StudyPlan samplePlan) {
+    public void displaySamplePlan(PlanSnapshot samplePlan) {
         displayStudyPlan(samplePlan, "CEG Sample Study Plan", true);
     }
 
-    public void displayCurrentPlan(StudyPlan currentPlan) {
+    public void displayCurrentPlan(PlanSnapshot currentPlan) {
         displayStudyPlan(currentPlan, "Current Study Plan", false);
     }
 
@@ -146,6 +151,17 @@ public class Ui {
      * @param prereqTree  The prerequisite tree in JSON format.
      */
     public void displayPrerequisites(String moduleCode, String moduleTitle, JsonNode prereqTree) {
+        displayPrereqExpression(moduleCode, moduleTitle, PrereqExpression.fromJson(prereqTree));
+    }
+
+    /**
+     * Displays the prerequisites for a given module.
+     *
+     * @param moduleCode       The module code.
+     * @param moduleTitle      The module title.
+     * @param prereqExpression The prerequisites of the module, or null if it has none.
+     */
+    public void displayPrereqExpression(String moduleCode, String moduleTitle, PrereqExpression prereqExpression) {
         assert moduleCode != null : "Module code cannot be null";
         logger.log(Level.INFO, "Displaying prerequisites for: {0}", moduleCode);
 
@@ -153,14 +169,14 @@ public class Ui {
         System.out.println("Module: " + moduleCode + " - " + moduleTitle);
         System.out.print(line);
 
-        if (prereqTree == null || prereqTree.isNull() || prereqTree.isMissingNode()) {
+        if (prereqExpression == null) {
             System.out.println("Prerequisites: None");
             System.out.println();
             System.out.println("This module has no prerequisites. You can take it in any semester!");
             logger.log(Level.FINE, "No prerequisites for module: {0}", moduleCode);
         } else {
-            String prereqString = prettifyPrereqTree(prereqTree);
-            System.out.println("Prerequisites: " + prereqString);
+            String prereqString = prereqExpression.describe();
+            System.out.println("Prerequisites: " + (prereqString.isEmpty() ? "None" : prereqString));
             System.out.println();
             System.out.println("Note: You need to satisfy these prerequisites before taking this module.");
         }
@@ -182,131 +198,6 @@ public class Ui {
         System.out.print(line);
     }
 
-    /**
-     * Converts prereqTree JSON to human-readable format.
-     */
-    private String prettifyPrereqTree(JsonNode node) {
-        if (node == null || node.isNull()) {
-            return "None";
-        }
-
-        if (node.has("nOf")) {
-            return handleNOfNode(node);
-        }
-
-        if (node.isTextual()) {
-            return formatTextualNode(node.asText());
-        }
-
-        if (node.has("or")) {
-            return prettifyArrayNode(node.get("or"), "OR");
-        }
-
-        if (node.has("and")) {
-            return prettifyArrayNode(node.get("and"), "AND");
-        }
-
-        if (node.has("moduleCode")) {
-            return prettifyModuleNode(node.get("moduleCode").asText());
-        }
-
-        return "None";
-    }
-
-    private String handleNOfNode(JsonNode node) {
-        JsonNode nOfNode = node.get("nOf");
-        if (!nOfNode.isArray() || nOfNode.size() != 2) {
-            return "None";
-        }
-
-        int count = nOfNode.get(0).asInt();
-        JsonNode modules = nOfNode.get(1);
-        ArrayList<String> displayList = buildModuleList(modules);
-        return "Need " + count + " of these: " + String.join(" OR ", displayList);
-    }
-
-    private ArrayList<String> buildModuleList(JsonNode modules) {
-        ArrayList<String> displayList = new ArrayList<>();
-        for (JsonNode mod : modules) {
-            String display = getModuleDisplay(mod);
-            displayList.add(display);
-        }
-        return displayList;
-    }
-
-    private String getModuleDisplay(JsonNode mod) {
-        if (mod.isTextual()) {
-            return prettifyModuleNode(mod.asText());
-        }
-        if (mod.has("moduleCode")) {
-            return prettifyModuleNode(mod.get("moduleCode").asText());
-        }
-        return prettifyPrereqTree(mod);
-    }
-
-    private String formatTextualNode(String text) {
-        String cleaned = text.replaceAll(":%[A-Z]", "").replaceAll(":[A-Z]", "");
-        cleaned = cleaned.replaceAll("%", " (or any variant)");
-        return cleaned.isEmpty() ? "None" : cleaned;
-    }
-
-
-    private String prettifyArrayNode(JsonNode arrayNode, String joinWord) {
-        if (arrayNode == null || !arrayNode.isArray()) {
-            return "";
-        }
-        StringBuilder result = new StringBuilder("(");
-        boolean first = true;
-        for (JsonNode child : arrayNode) {
-            String childStr = prettifyPrereqTree(child);
-            if (childStr.isEmpty() || isBridgingModule(childStr)) {
-                continue;
-            }
-            if (!first) {
-                result.append(" ").append(joinWord).append(" ");
-            }
-            result.append(childStr);
-            first = false;
-        }
-        result.append(")");
-
-        if (first) {
-            return "";
-        }
-
-        return result.toString();
-    }
-
-    private String prettifyModuleNode(String codeRaw) {
-        String code = stripGradeRequirement(codeRaw);
-
-        if (code.contains("%")) {
-            return code.replaceAll("%", " (or any variant)");
-        }
-
-        if (isValidModuleCode(code) && !isBridgingModule(code)) {
-            return code;
-        }
-        return "";
-    }
-
-    private String stripGradeRequirement(String moduleCode) {
-        int colonIndex = moduleCode.indexOf(':');
-        if (colonIndex != -1) {
-            return moduleCode.substring(0, colonIndex);
-        }
-        return moduleCode;
-    }
-
-    private boolean isValidModuleCode(String code) {
-        return code != null && code.matches("^[A-Z]{2,3}\\d{4}[A-Z]{0,2}$");
-    }
-
-    private boolean isBridgingModule(String code) {
-        return code.equals("MA1301") || code.equals("MA1301X")
-                || code.equals("MA1301FC") || code.equals("PC1201");
-    }
-
     /**
      * Sets logger level depending on how the program is run.
      * When running from a jar file, it disables logging.
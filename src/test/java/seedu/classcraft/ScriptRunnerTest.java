@@ -0,0 +1,38 @@
+package seedu.classcraft;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ScriptRunnerTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void collectModuleCodes_scriptCommands_returnsEachCodeOnce() {
+        List<String> script = List.of("add n/cs1010 s/1", "add s/4n/GEA1000, n/CS2040C s/2",
+                "prereq CS2040C", "delete CS1010", "mc total", "view plan");
+
+        assertEquals(List.of("CS1010", "GEA1000", "CS2040C"),
+                List.copyOf(ScriptRunner.collectModuleCodes(script)));
+    }
+
+    @Test
+    public void collectModuleCodes_noModules_returnsEmptySet() {
+        assertTrue(ScriptRunner.collectModuleCodes(List.of("help", "set-current 3", "spec ae")).isEmpty());
+    }
+
+    @Test
+    public void readScript_file_returnsEveryLine() throws Exception {
+        Path scriptFile = tempDir.resolve("script.txt");
+        Files.write(scriptFile, List.of("add n/CS1010 s/1", "", "view plan"));
+
+        assertEquals(List.of("add n/CS1010 s/1", "", "view plan"), ScriptRunner.readScript(scriptFile.toString()));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.classcraft.nusmodsfetcher;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModuleCacheTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    public void read_moduleNotCached_returnsNull() {
+        ModuleCache cache = new ModuleCache(cacheDirectory.toString(), "2025-2026", Duration.ofDays(1));
+        assertNull(cache.read("CS1010"));
+    }
+
+    @Test
+    public void write_thenRead_returnsFreshEntry() {
+        ModuleCache cache = new ModuleCache(cacheDirectory.toString(), "2025-2026", Duration.ofDays(1));
+        cache.write("CS1010", "{\"moduleCode\":\"CS1010\"}");
+
+        ModuleCache.Entry entry = cache.read("cs1010");
+        assertNotNull(entry);
+        assertEquals("{\"moduleCode\":\"CS1010\"}", entry.getBody());
+        assertFalse(entry.isStale());
+        assertTrue(Files.exists(cacheDirectory.resolve("2025-2026").resolve("CS1010.json")));
+    }
+
+    @Test
+    public void read_entryOlderThanTimeToLive_returnsStaleEntry() {
+        ModuleCache cache = new ModuleCache(cacheDirectory.toString(), "2025-2026", Duration.ZERO);
+        cache.write("CS1010", "{}");
+
+        ModuleCache.Entry entry = cache.read("CS1010");
+        assertNotNull(entry);
+        assertTrue(entry.isStale());
+    }
+
+    @Test
+    public void write_invalidModuleCode_isNotCached() {
+        ModuleCache cache = new ModuleCache(cacheDirectory.toString(), "2025-2026", Duration.ofDays(1));
+        cache.write("../CS1010", "{}");
+        assertNull(cache.read("../CS1010"));
+    }
+
+    @Test
+    public void setTimeToLive_negativeDuration_throwsException() {
+        ModuleCache cache = new ModuleCache(cacheDirectory.toString(), "2025-2026", Duration.ofDays(1));
+        assertThrows(IllegalArgumentException.class, () -> cache.setTimeToLive(Duration.ofHours(-1)));
+    }
+}
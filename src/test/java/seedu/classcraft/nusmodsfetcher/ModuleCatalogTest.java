@@ -0,0 +1,73 @@
+package seedu.classcraft.nusmodsfetcher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.classcraft.exceptions.NUSmodsFetcherException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModuleCatalogTest {
+    private static final String CS1010_JSON = "{\"moduleCode\":\"CS1010\",\"title\":\"Programming Methodology\","
+            + "\"moduleCredit\":\"4\",\"semesterData\":[{\"semester\":1},{\"semester\":2}]}";
+    private static final String CS2040C_JSON = "{\"moduleCode\":\"CS2040C\",\"title\":\"Data Structures and "
+            + "Algorithms\",\"moduleCredit\":\"4\",\"semesterData\":[{\"semester\":1}],"
+            + "\"prereqTree\":{\"or\":[\"CS1010:D\",\"CS1010E:D\"]}}";
+
+    @TempDir
+    Path tempDirectory;
+
+    @AfterEach
+    void leaveOfflineMode() {
+        NUSmodsFetcher.clearOfflineCatalog();
+    }
+
+    @Test
+    public void load_bulkFile_importsEveryModule() throws Exception {
+        Path bulkFile = tempDirectory.resolve("moduleInfo.json");
+        Files.writeString(bulkFile, "[" + CS1010_JSON + "," + CS2040C_JSON + "]");
+
+        ModuleCatalog catalog = ModuleCatalog.load(bulkFile);
+        assertEquals(2, catalog.size());
+        assertNotNull(catalog.get("cs2040c"));
+        assertNull(catalog.get("CS2113"));
+    }
+
+    @Test
+    public void load_directoryOfModuleFiles_importsEveryModule() throws Exception {
+        Files.writeString(tempDirectory.resolve("CS1010.json"), CS1010_JSON);
+        Files.writeString(tempDirectory.resolve("CS2040C.json"), CS2040C_JSON);
+
+        ModuleCatalog catalog = ModuleCatalog.load(tempDirectory);
+        assertEquals(2, catalog.size());
+    }
+
+    @Test
+    public void load_fileNotAnArray_throwsException() throws Exception {
+        Path bulkFile = tempDirectory.resolve("moduleInfo.json");
+        Files.writeString(bulkFile, CS1010_JSON);
+
+        assertThrows(NUSmodsFetcherException.class, () -> ModuleCatalog.load(bulkFile));
+    }
+
+    @Test
+    public void fetchModuleInfo_offlineMode_servedFromCatalog() throws Exception {
+        Path bulkFile = tempDirectory.resolve("moduleInfo.json");
+        Files.writeString(bulkFile, "[" + CS1010_JSON + "," + CS2040C_JSON + "]");
+        NUSmodsFetcher.useOfflineCatalog(bulkFile);
+
+        assertTrue(NUSmodsFetcher.isOffline());
+        ModuleInfo moduleInfo = NUSmodsFetcher.fetchModuleInfo("CS2040C");
+        assertEquals("Data Structures and Algorithms", moduleInfo.getTitle());
+        assertEquals(1, moduleInfo.getSemesterOffered());
+        assertNotNull(moduleInfo.getPrereqExpression());
+        assertThrows(NUSmodsFetcherException.class, () -> NUSmodsFetcher.fetchModuleInfo("CS2113"));
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.classcraft.nusmodsfetcher;
+
+import org.junit.jupiter.api.Test;
+import seedu.classcraft.exceptions.NUSmodsFetcherException;
+import seedu.classcraft.prerequisite.PrereqExpression;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ModuleInfoTest {
+    private static final String CS2040C_JSON = "{\"acadYear\":\"2025-2026\",\"description\":\"Data structures.\","
+            + "\"title\":\"Data Structures and Algorithms\",\"workload\":[2,1,1,3,3],\"moduleCredit\":\"4\","
+            + "\"moduleCode\":\"CS2040C\",\"prereqTree\":{\"or\":[\"CS1010:D\",\"CS1010E:D\"]},"
+            + "\"semesterData\":[{\"semester\":1,\"timetable\":[{\"classNo\":\"01\",\"weeks\":[1,2,3]}]},"
+            + "{\"semester\":2,\"examDate\":\"2026-04-25T01:00:00.000Z\"}]}";
+
+    @Test
+    public void parse_fullModule_keepsUsedFields() throws Exception {
+        ModuleInfo moduleInfo = ModuleInfo.parse("CS2040C", CS2040C_JSON);
+        assertEquals("Data Structures and Algorithms", moduleInfo.getTitle());
+        assertEquals(4, moduleInfo.getModuleCredit());
+        assertEquals("Data structures.", moduleInfo.getDescription());
+        assertEquals(3, moduleInfo.getSemesterOffered());
+        assertEquals(new PrereqExpression.Or(List.of(new PrereqExpression.ModuleRef("CS1010", "D"),
+                new PrereqExpression.ModuleRef("CS1010E", "D"))), moduleInfo.getPrereqExpression());
+        assertEquals("", moduleInfo.getDepartment());
+    }
+
+    @Test
+    public void parse_noPrereqTreeOrSemesterData_semesterOfferedThrows() throws Exception {
+        ModuleInfo moduleInfo = ModuleInfo.parse("CS1010", "{\"moduleCredit\":\"4\",\"prereqTree\":null}");
+        assertNull(moduleInfo.getPrereqExpression());
+        assertThrows(NUSmodsFetcherException.class, moduleInfo::getSemesterOffered);
+    }
+
+    @Test
+    public void parse_invalidPayload_throwsException() {
+        assertThrows(NUSmodsFetcherException.class, () -> ModuleInfo.parse("CS1010", "[]"));
+        assertThrows(NUSmodsFetcherException.class, () -> ModuleInfo.parse("CS1010", "{\"moduleCredit\":\"x\"}"));
+        assertThrows(NUSmodsFetcherException.class, () -> ModuleInfo.parse("CS1010", "{\"title\":"));
+    }
+}
@@ -2,8 +2,21 @@ package seedu.classcraft.nusmodsfetcher;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.classcraft.exceptions.NUSmodsFetcherException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class NUSmodsFetcherTest {
 
@@ -89,4 +102,110 @@ public class NUSmodsFetcherTest {
         assertEquals(expectedSemesters, actualSemesters,
             "Retrieved semesters taught should match actual");
     }
+
+    @Test
+    public void fetchModuleInfo_validModuleCode_returnsAllFieldsFromOneResponse() throws Exception {
+        ModuleInfo moduleInfo = NUSmodsFetcher.fetchModuleInfo("CG2111A");
+        assertEquals("CG2111A", moduleInfo.getModuleCode());
+        assertEquals(4, moduleInfo.getModuleCredit());
+        assertEquals(2, moduleInfo.getSemesterOffered());
+        assertNotNull(moduleInfo.getPrereqExpression(), "CG2111A should have a prerequisite tree");
+    }
+
+    @Test
+    public void fetchModuleInfo_inValidModuleCode_throwsException() {
+        assertThrows(NUSmodsFetcherException.class, () -> NUSmodsFetcher.fetchModuleInfo("INVALIDCODE"));
+    }
+
+    @Test
+    public void fetchAllAsync_mixedModuleCodes_returnsOnlyFetchedModules() {
+        Map<String, ModuleInfo> modules = NUSmodsFetcher.fetchAllAsync(
+                List.of("CS1010", "CS1231", "INVALIDCODE")).join();
+        assertEquals(List.of("CS1010", "CS1231"), List.copyOf(modules.keySet()),
+            "Invalid modules should be left out, valid modules kept in order");
+        assertEquals(4, modules.get("CS1231").getModuleCredit());
+    }
+
+    @Test
+    public void fetchModuleAsync_concurrentCallsForUncachedModule_sendOneRequest() throws Exception {
+        AtomicInteger requestCount = new AtomicInteger();
+        CompletableFuture<ModuleInfo> response = new CompletableFuture<>();
+        NUSmodsFetcher.setRequestSender(moduleCode -> {
+            requestCount.incrementAndGet();
+            return response;
+        });
+        try {
+            List<CompletableFuture<ModuleInfo>> fetches = fetchConcurrently("ZQ9001", 16);
+            ModuleInfo moduleInfo = ModuleInfo.parse("ZQ9001", "{\"moduleCredit\":\"4\",\"prereqTree\":null}");
+            response.complete(moduleInfo);
+
+            for (CompletableFuture<ModuleInfo> fetch : fetches) {
+                assertSame(moduleInfo, fetch.join());
+            }
+            assertEquals(1, requestCount.get());
+            assertEquals(0, NUSmodsFetcher.getInFlightDownloadCount());
+        } finally {
+            NUSmodsFetcher.setRequestSender(null);
+        }
+    }
+
+    @Test
+    public void fetchModuleAsync_requestFails_removesInFlightDownload() throws Exception {
+        AtomicInteger requestCount = new AtomicInteger();
+        List<CompletableFuture<ModuleInfo>> responses = new ArrayList<>();
+        NUSmodsFetcher.setRequestSender(moduleCode -> {
+            requestCount.incrementAndGet();
+            CompletableFuture<ModuleInfo> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+        try {
+            List<CompletableFuture<ModuleInfo>> fetches = fetchConcurrently("ZQ9002", 8);
+            responses.get(0).completeExceptionally(new NUSmodsFetcherException("HTTP 503"));
+
+            for (CompletableFuture<ModuleInfo> fetch : fetches) {
+                assertThrows(CompletionException.class, fetch::join);
+            }
+            assertEquals(0, NUSmodsFetcher.getInFlightDownloadCount());
+
+            NUSmodsFetcher.fetchModuleAsync("ZQ9002");
+            assertEquals(2, requestCount.get());
+            responses.get(1).completeExceptionally(new NUSmodsFetcherException("HTTP 503"));
+            assertEquals(0, NUSmodsFetcher.getInFlightDownloadCount());
+        } finally {
+            NUSmodsFetcher.setRequestSender(null);
+        }
+    }
+
+    /**
+     * Calls fetchModuleAsync for one module from many threads at once and returns every future.
+     */
+    private static List<CompletableFuture<ModuleInfo>> fetchConcurrently(String moduleCode, int callerCount)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<ModuleInfo>> fetches = new ArrayList<>();
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < callerCount; i++) {
+            Thread caller = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                CompletableFuture<ModuleInfo> fetch = NUSmodsFetcher.fetchModuleAsync(moduleCode);
+                synchronized (fetches) {
+                    fetches.add(fetch);
+                }
+            });
+            callers.add(caller);
+            caller.start();
+        }
+        start.countDown();
+        for (Thread caller : callers) {
+            caller.join();
+        }
+        assertEquals(callerCount, fetches.size());
+        assertTrue(fetches.stream().noneMatch(CompletableFuture::isDone));
+        return fetches;
+    }
 }
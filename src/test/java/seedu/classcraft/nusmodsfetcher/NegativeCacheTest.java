@@ -0,0 +1,44 @@
+package seedu.classcraft.nusmodsfetcher;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class NegativeCacheTest {
+
+    @Test
+    public void getFailure_recordedCode_returnsReason() {
+        NegativeCache cache = new NegativeCache(4, Duration.ofMinutes(10));
+        cache.record("CS9999", "Module not found");
+        assertEquals("Module not found", cache.getFailure("cs9999"));
+        assertNull(cache.getFailure("CS1010"));
+    }
+
+    @Test
+    public void getFailure_expiredEntry_returnsNull() {
+        Clock clock = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+        NegativeCache cache = new NegativeCache(4, Duration.ZERO, clock);
+        cache.record("CS9999", "Module not found");
+        assertNull(cache.getFailure("CS9999"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void record_overCapacity_evictsLeastRecentlyUsed() {
+        NegativeCache cache = new NegativeCache(2, Duration.ofMinutes(10));
+        cache.record("CS9997", "a");
+        cache.record("CS9998", "b");
+        cache.getFailure("CS9997");
+        cache.record("CS9999", "c");
+
+        assertEquals(2, cache.size());
+        assertEquals("a", cache.getFailure("CS9997"));
+        assertNull(cache.getFailure("CS9998"));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.classcraft.parser;
 
 import org.junit.jupiter.api.Test;
+import seedu.classcraft.command.AddBatchCommand;
 import seedu.classcraft.command.AddCommand;
 import seedu.classcraft.command.CalcCreditsCommand;
 import seedu.classcraft.command.DeleteCommand;
@@ -19,6 +20,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
+import java.util.List;
+import java.util.Map;
+
 class ParserTest {
 
     private Parser parser;
@@ -107,6 +111,37 @@ class ParserTest {
 
     }
 
+    @Test
+    void parseAddBatch_validInput() throws EmptyInstruction {
+        parser = new Parser("add n/cs1010 s/1, s/1 n/MA1511,n/CS2040C s/2");
+        assertEquals("add", parser.getCommandType());
+        Map<String, Integer> result = parser.parseAddBatch();
+        assertEquals(List.of("CS1010", "MA1511", "CS2040C"), List.copyOf(result.keySet()));
+        assertEquals(List.of(1, 1, 2), List.copyOf(result.values()));
+        assertInstanceOf(AddBatchCommand.class, parser.parseInput());
+    }
+
+    @Test
+    void parseAddBatch_spacesAroundCommas() throws EmptyInstruction {
+        parser = new Parser("add n/CS1010 s/1 , n/MA1511 s/1 , ");
+        assertEquals("add", parser.getCommandType());
+        Map<String, Integer> result = parser.parseAddBatch();
+        assertEquals(List.of("CS1010", "MA1511"), List.copyOf(result.keySet()));
+        assertInstanceOf(AddBatchCommand.class, parser.parseInput());
+    }
+
+    @Test
+    void parseAddBatch_invalidInput() {
+        parser = new Parser("add n/CS1010 s/1, n/CS1010 s/2");
+        assertThrows(EmptyInstruction.class, () -> parser.parseAddBatch());
+
+        parser = new Parser("add n/CS1010 s/1, n/MA1511");
+        assertThrows(EmptyInstruction.class, () -> parser.parseAddBatch());
+
+        parser = new Parser("add n/CS1010 s/1 n/MA1511 s/2");
+        assertInstanceOf(InvalidCommand.class, parser.parseInput());
+    }
+
     @Test
     void parseInput_variousCommands() {
         Parser parser = new Parser("help");
@@ -0,0 +1,172 @@
+package seedu.classcraft.prerequisite;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompiledPrereqTest {
+    private static final int SAMPLES_PER_TREE = 500;
+
+    private static BitSet toModuleIds(Set<String> moduleCodes) {
+        BitSet moduleIds = new BitSet();
+        for (String moduleCode : moduleCodes) {
+            moduleIds.set(ModuleCode.intern(moduleCode));
+        }
+        return moduleIds;
+    }
+
+    /**
+     * Copy of the JSON interpreter that checked prerequisites before they were parsed into PrereqExpression,
+     * kept as an oracle for the compiled checks. With isNOfChildEvaluated set, nOf children are evaluated
+     * like any other node, which is the one documented change in behaviour since then; without it, an nOf
+     * only counts plain module codes, matched by prefix, so wildcards, bridging modules and nested nodes
+     * inside an nOf never count.
+     */
+    private static boolean evaluateBaseline(JsonNode node, Set<String> completed, boolean isNOfChildEvaluated) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return true;
+        }
+        if (node.isObject() && node.has("nOf")) {
+            int requiredCount = node.get("nOf").get(0).asInt();
+            int completedCount = 0;
+            for (JsonNode child : node.get("nOf").get(1)) {
+                boolean isCompleted = isNOfChildEvaluated
+                        ? evaluateBaseline(child, completed, true)
+                        : isBaselineNOfChildCompleted(child, completed);
+                if (isCompleted) {
+                    completedCount++;
+                }
+            }
+            return completedCount >= requiredCount;
+        }
+        if (node.isObject() && node.has("or")) {
+            if (!node.get("or").isArray()) {
+                return false;
+            }
+            for (JsonNode child : node.get("or")) {
+                if (evaluateBaseline(child, completed, isNOfChildEvaluated)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (node.isObject() && node.has("and")) {
+            for (JsonNode child : node.get("and")) {
+                if (!evaluateBaseline(child, completed, isNOfChildEvaluated)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (node.isTextual()) {
+            return isBaselineModuleCompleted(node.asText(), completed);
+        }
+        if (node.isObject() && node.has("moduleCode")) {
+            return isBaselineModuleCompleted(node.get("moduleCode").asText(), completed);
+        }
+        return false;
+    }
+
+    private static boolean isBaselineNOfChildCompleted(JsonNode child, Set<String> completed) {
+        String moduleCode = "";
+        if (child.isTextual()) {
+            moduleCode = stripGradeRequirement(child.asText());
+        } else if (child.has("moduleCode")) {
+            moduleCode = child.get("moduleCode").asText();
+        }
+        String prefix = moduleCode;
+        return !prefix.isEmpty() && completed.stream().anyMatch(code -> code.startsWith(prefix));
+    }
+
+    private static boolean isBaselineModuleCompleted(String moduleText, Set<String> completed) {
+        String moduleCode = stripGradeRequirement(moduleText);
+        if (List.of("MA1301", "MA1301X", "MA1301FC", "PC1201").contains(moduleCode)) {
+            return true;
+        }
+        if (moduleCode.contains("%")) {
+            String baseCode = moduleCode.replace("%", "");
+            return completed.stream().anyMatch(code -> code.startsWith(baseCode));
+        }
+        if (!moduleCode.matches("^[A-Z]{2,3}\\d{4}[A-Z]{0,2}$")) {
+            return false;
+        }
+        return completed.contains(moduleCode);
+    }
+
+    private static String stripGradeRequirement(String moduleCode) {
+        int colonIndex = moduleCode.indexOf(':');
+        return colonIndex == -1 ? moduleCode : moduleCode.substring(0, colonIndex);
+    }
+
+    @Test
+    public void isSatisfiedBy_corpusOfPrereqTrees_agreesWithBaselineInterpreter() throws Exception {
+        JsonNode corpus;
+        try (InputStream input = getClass().getResourceAsStream("/prerequisite/prereqTrees.json")) {
+            assertNotNull(input, "Prerequisite tree corpus should be on the test classpath");
+            corpus = new ObjectMapper().readTree(input);
+        }
+
+        List<JsonNode> trees = new ArrayList<>();
+        Set<String> candidates = new HashSet<>();
+        for (JsonNode entry : corpus) {
+            trees.add(entry.get("prereqTree"));
+            PrereqExpression.fromJson(entry.get("prereqTree")).collectModuleCodes(candidates);
+            candidates.add(entry.get("moduleCode").asText());
+        }
+        // Variants that only a wildcard in the corpus can match
+        candidates.addAll(List.of("CS1010R", "CS2040DE", "CS2113T", "CS2103T", "EE2012A", "MA1100T", "CS1231S"));
+        List<String> candidateList = new ArrayList<>(candidates);
+        candidateList.sort(null);
+
+        Random random = new Random(2113);
+        int nOfDivergences = 0;
+        for (JsonNode tree : trees) {
+            CompiledPrereq compiled = CompiledPrereq.compile(PrereqExpression.fromJson(tree));
+            for (int sample = 0; sample < SAMPLES_PER_TREE; sample++) {
+                Set<String> completed = new HashSet<>();
+                for (String moduleCode : candidateList) {
+                    if (random.nextInt(4) == 0) {
+                        completed.add(moduleCode);
+                    }
+                }
+                boolean isSatisfied = compiled.isSatisfiedBy(toModuleIds(completed));
+                if (isSatisfied == evaluateBaseline(tree, completed, false)) {
+                    continue;
+                }
+                // The only expected difference: nOf children are now evaluated like any other node
+                assertTrue(tree.findValue("nOf") != null,
+                        "Compiled prerequisite disagrees with the baseline on " + tree + " with " + completed);
+                assertEquals(evaluateBaseline(tree, completed, true), isSatisfied,
+                        "Compiled prerequisite disagrees on " + tree + " with " + completed);
+                nOfDivergences++;
+            }
+        }
+        assertTrue(nOfDivergences > 0, "The corpus should exercise the documented nOf change");
+    }
+
+    @Test
+    public void isSatisfiedBy_wildcardCodeInternedAfterCompile_matches() {
+        CompiledPrereq compiled = CompiledPrereq.compile(new PrereqExpression.Wildcard("ZZ9990", null));
+        assertFalse(compiled.isSatisfiedBy(toModuleIds(Set.of("CS1010"))));
+        assertTrue(compiled.isSatisfiedBy(toModuleIds(Set.of("ZZ9990X"))));
+    }
+
+    @Test
+    public void isSatisfiedBy_bridgingModule_alwaysSatisfied() {
+        CompiledPrereq compiled = CompiledPrereq.compile(new PrereqExpression.ModuleRef("MA1301", "D"));
+        assertTrue(compiled.isSatisfiedBy(new BitSet()));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.classcraft.prerequisite;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrereqExpressionTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private PrereqExpression parse(String json) throws Exception {
+        return PrereqExpression.fromJson(mapper.readTree(json));
+    }
+
+    @Test
+    public void fromJson_nullTree_returnsNull() {
+        assertNull(PrereqExpression.fromJson(null));
+    }
+
+    @Test
+    public void fromJson_nusModsTree_parsesEveryNodeType() throws Exception {
+        PrereqExpression expression = parse("{\"and\":[{\"or\":[\"CS1010:D\",\"CS1101S:D\"]},"
+                + "{\"nOf\":[1,[\"MA1511%:D\",{\"moduleCode\":\"MA1521\"}]]}]}");
+
+        assertTrue(expression.isSatisfiedBy(Set.of("CS1101S", "MA1511A")));
+        assertFalse(expression.isSatisfiedBy(Set.of("CS1101S")));
+        assertTrue(expression.references("CS1010"));
+        assertTrue(expression.references("MA1511B"));
+        assertFalse(expression.references("CS2040"));
+        assertEquals("((CS1010 OR CS1101S) AND Need 1 of these: MA1511 (or any variant) OR MA1521)",
+                expression.describe());
+    }
+
+    @Test
+    public void isSatisfiedBy_bridgingModule_alwaysSatisfied() throws Exception {
+        assertTrue(parse("\"MA1301:D\"").isSatisfiedBy(Set.of()));
+        assertEquals("", parse("\"MA1301:D\"").describe());
+    }
+
+    @Test
+    public void toJson_roundTrip_keepsExpression() throws Exception {
+        PrereqExpression expression = parse("{\"or\":[\"CS2040:D\",{\"nOf\":[2,[\"CS2030%\",\"CS2100\"]]}]}");
+        assertEquals(expression, PrereqExpression.fromJson(expression.toJson()));
+    }
+
+    @Test
+    public void fromJson_unknownNode_neverSatisfied() throws Exception {
+        assertFalse(parse("{\"unknown\":[]}").isSatisfiedBy(Set.of("CS1010")));
+    }
+}
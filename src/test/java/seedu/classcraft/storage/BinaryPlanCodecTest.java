@@ -0,0 +1,52 @@
+package seedu.classcraft.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class BinaryPlanCodecTest {
+
+    @Test
+    public void encodeThenDecode_validDataFile_returnsSameLines() throws IOException {
+        List<String> lines = List.of(
+                "1:COMPLETED - CS1010, MA1511,",
+                "2:COMPLETED -",
+                "3 - CS2040C,",
+                "4 -",
+                "5 -",
+                "6 - CG2111A, EE2026,",
+                "7 -",
+                "8 -",
+                "EXEMPTED - CS1231:EXEMPTED, GEA1000:COMPLETED,");
+
+        byte[] snapshot = BinaryPlanCodec.encode(lines);
+
+        assertEquals(lines, BinaryPlanCodec.decode(ByteBuffer.wrap(snapshot)));
+    }
+
+    @Test
+    public void encode_missingExemptedLine_throwsIOException() {
+        assertThrows(IOException.class, () -> BinaryPlanCodec.encode(List.of("1 - CS1010,", "2 -")));
+    }
+
+    @Test
+    public void decode_truncatedSnapshot_throwsIOException() throws IOException {
+        byte[] snapshot = BinaryPlanCodec.encode(List.of("1 - CS1010,", "EXEMPTED -"));
+        byte[] truncated = Arrays.copyOf(snapshot, snapshot.length - 3);
+
+        assertThrows(IOException.class, () -> BinaryPlanCodec.decode(ByteBuffer.wrap(truncated)));
+    }
+
+    @Test
+    public void decode_notASnapshot_throwsIOException() {
+        byte[] text = "1 - CS1010,".getBytes();
+
+        assertThrows(IOException.class, () -> BinaryPlanCodec.decode(ByteBuffer.wrap(text)));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.classcraft.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.classcraft.prerequisite.PrereqExpression;
+
+public class ModuleMetadataStoreTest {
+    private static final Path METADATA_FILE = Path.of("./test-metadata.meta");
+
+    @AfterEach
+    void cleanup() throws IOException {
+        Files.deleteIfExists(METADATA_FILE);
+    }
+
+    @Test
+    public void saveAndLoad_entryWithPrerequisites_roundTrips() {
+        ModuleMetadataStore store = new ModuleMetadataStore(METADATA_FILE);
+        PrereqExpression prereq = new PrereqExpression.Or(List.of(
+                new PrereqExpression.ModuleRef("CS1010", "D"),
+                new PrereqExpression.Wildcard("CS1101", null)));
+        ModuleMetadata entry = ModuleMetadata.of("CS2040", "Data Structures", 4, "desc", 3, prereq);
+
+        store.put(entry);
+        store.save();
+        ModuleMetadataStore loaded = new ModuleMetadataStore(METADATA_FILE);
+        loaded.load();
+
+        assertEquals(entry, loaded.get("CS2040"));
+    }
+
+    @Test
+    public void get_entryNotMatchingHash_returnsNull() {
+        ModuleMetadataStore store = new ModuleMetadataStore(METADATA_FILE);
+        ModuleMetadata entry = ModuleMetadata.of("CS1010", "Programming Methodology", 4, "desc", 3, null);
+        store.put(new ModuleMetadata("CS1010", "Edited Title", 4, "desc", 3, null, entry.hash()));
+
+        assertNull(store.get("CS1010"));
+    }
+
+    @Test
+    public void load_unsupportedVersion_leavesStoreEmpty() throws IOException {
+        Files.writeString(METADATA_FILE, "{\"version\": 99, \"modules\": [{\"moduleCode\": \"CS1010\"}]}");
+        ModuleMetadataStore store = new ModuleMetadataStore(METADATA_FILE);
+
+        store.load();
+
+        assertNull(store.get("CS1010"));
+    }
+}
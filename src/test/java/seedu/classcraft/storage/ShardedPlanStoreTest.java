@@ -0,0 +1,114 @@
+package seedu.classcraft.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ShardedPlanStoreTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void forUser_sameUser_returnsSameStore() {
+        ShardedPlanStore store = new ShardedPlanStore(tempDir, ".txt");
+
+        assertSame(store.forUser("alice"), store.forUser("alice"));
+    }
+
+    @Test
+    public void forUser_newUser_createsFileInShardDirectory() {
+        ShardedPlanStore store = new ShardedPlanStore(tempDir, ".txt");
+
+        store.forUser("alice");
+        Path planFile = store.getPlanFile("alice");
+
+        assertTrue(Files.exists(planFile));
+        assertEquals(tempDir, planFile.getParent().getParent());
+        assertEquals(String.format("%02x", Math.floorMod("alice".hashCode(), ShardedPlanStore.SHARD_COUNT)),
+                planFile.getParent().getFileName().toString());
+    }
+
+    @Test
+    public void forUser_differentUsers_keepSeparatePlans() throws IOException {
+        ShardedPlanStore store = new ShardedPlanStore(tempDir, ".txt");
+
+        store.forUser("alice").appendToFile("CS1010", 1);
+        store.forUser("bob").appendToFile("MA1511", 2);
+
+        assertNotEquals(store.getPlanFile("alice"), store.getPlanFile("bob"));
+        assertEquals("1 - CS1010,", Files.readAllLines(store.getPlanFile("alice")).get(0));
+        assertEquals("1 -", Files.readAllLines(store.getPlanFile("bob")).get(0));
+    }
+
+    @Test
+    public void forUser_invalidUserId_throwsException() {
+        ShardedPlanStore store = new ShardedPlanStore(tempDir, ".txt");
+
+        assertThrows(IllegalArgumentException.class, () -> store.forUser("../alice"));
+        assertThrows(IllegalArgumentException.class, () -> store.forUser(""));
+        assertThrows(IllegalArgumentException.class, () -> store.forUser(null));
+    }
+
+    @Test
+    public void appendToFile_concurrentWritersOnSameFile_keepsEveryChange() throws Exception {
+        Path planFile = tempDir.resolve("shared.txt");
+        Storage first = new Storage(planFile.toString());
+        Storage second = new Storage(planFile.toString());
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Storage storage = i % 2 == 0 ? first : second;
+            String moduleCode = "CS" + (1000 + i);
+            writers.add(new Thread(() -> storage.appendToFile(moduleCode, 1)));
+        }
+
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        String semesterLine = Files.readAllLines(planFile).get(0);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(semesterLine.contains("CS" + (1000 + i) + ","), semesterLine);
+        }
+    }
+
+    @Test
+    public void flush_groupCommitWithOtherWriterInWindow_keepsBothChanges() throws Exception {
+        Path planFile = tempDir.resolve("shared.txt");
+        Storage first = new Storage(planFile.toString());
+        Storage second = new Storage(planFile.toString());
+        first.setGroupCommitWindow(60_000);
+
+        first.appendToFile("CS1010", 1);
+        second.appendToFile("MA1511", 1);
+        first.flush();
+
+        String semesterLine = Files.readAllLines(planFile).get(0);
+        assertTrue(semesterLine.contains("CS1010,"), semesterLine);
+        assertTrue(semesterLine.contains("MA1511,"), semesterLine);
+        first.setGroupCommitWindow(0);
+    }
+
+    @Test
+    public void atomicWrite_otherWriterMidWrite_leavesItsTempFileAlone() throws Exception {
+        Path metadataFile = tempDir.resolve("shared.txt.meta");
+        Path otherTempFile = tempDir.resolve("shared.txt.meta.tmp");
+        Files.writeString(otherTempFile, "other writer");
+
+        AtomicFileWriter.write(metadataFile, "this writer".getBytes());
+
+        assertEquals("this writer", Files.readString(metadataFile));
+        assertEquals("other writer", Files.readString(otherTempFile));
+    }
+}
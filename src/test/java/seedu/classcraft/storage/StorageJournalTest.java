@@ -0,0 +1,69 @@
+package seedu.classcraft.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StorageJournalTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void readRecords_appendedRecords_returnsThemInOrder() throws Exception {
+        StorageJournal journal = new StorageJournal(tempDir.resolve("plan.txt.journal"));
+
+        journal.append(StorageJournal.ADD, "CS1010", "1");
+        journal.append(StorageJournal.DELETE, "CS1010", "1");
+
+        List<String[]> records = journal.readRecords();
+        assertEquals(2, journal.size());
+        assertArrayEquals(new String[]{"ADD", "CS1010", "1"}, records.get(0));
+        assertArrayEquals(new String[]{"DELETE", "CS1010", "1"}, records.get(1));
+    }
+
+    @Test
+    public void readRecords_tornLastRecord_dropsIt() throws Exception {
+        Path journalFile = tempDir.resolve("plan.txt.journal");
+        String content = "ADD CS1010 1" + System.lineSeparator() + "ADD MA15";
+        Files.write(journalFile, content.getBytes(StandardCharsets.UTF_8));
+
+        StorageJournal journal = new StorageJournal(journalFile);
+        journal.append(StorageJournal.ADD, "CS2040C", "2");
+
+        List<String[]> records = journal.readRecords();
+        assertEquals(2, records.size());
+        assertArrayEquals(new String[]{"ADD", "CS1010", "1"}, records.get(0));
+        assertArrayEquals(new String[]{"ADD", "CS2040C", "2"}, records.get(1));
+    }
+
+    @Test
+    public void constructor_unterminatedLastRecord_leavesFileUntouched() throws Exception {
+        Path journalFile = tempDir.resolve("plan.txt.journal");
+        String content = "ADD CS1010 1" + System.lineSeparator() + "ADD MA15";
+        Files.write(journalFile, content.getBytes(StandardCharsets.UTF_8));
+
+        new StorageJournal(journalFile);
+
+        assertEquals(content, Files.readString(journalFile));
+    }
+
+    @Test
+    public void size_recordsAppendedThroughAnotherJournal_countsThem() throws Exception {
+        Path journalFile = tempDir.resolve("plan.txt.journal");
+        StorageJournal first = new StorageJournal(journalFile);
+        StorageJournal second = new StorageJournal(journalFile);
+
+        first.append(StorageJournal.ADD, "CS1010", "1");
+        second.append(StorageJournal.ADD, "MA1511", "1");
+        second.append(StorageJournal.ADD, "CS2040C", "2");
+
+        assertEquals(3, first.size());
+    }
+}
@@ -9,7 +9,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.io.IOException;
 import java.util.Comparator;
+import java.util.List;
 
+import seedu.classcraft.studyplan.Module;
+import seedu.classcraft.studyplan.ModuleStatus;
 import seedu.classcraft.studyplan.StudyPlan;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -89,10 +92,155 @@ class StorageTest {
         storage.appendToFile("MA1511", 2);
         StudyPlan restoredPlan = storage.restoreData(storage);
 
-        assertTrue(restoredPlan.getStudyPlan().get(0).stream().anyMatch(m -> m.getModCode().equals("CS1010")));
-        assertTrue(restoredPlan.getStudyPlan().get(1).stream().anyMatch(m -> m.getModCode().equals("MA1511")));
+        var semesters = restoredPlan.getSnapshot().getSemesters();
+        assertTrue(semesters.get(0).stream().anyMatch(m -> m.definition().getModCode().equals("CS1010")));
+        assertTrue(semesters.get(1).stream().anyMatch(m -> m.definition().getModCode().equals("MA1511")));
 
 
     }
 
+    @Test
+    void testRestoreData_completedSemester_setsCurrentSemester() {
+        storage = new Storage(TEST_FILE_PATH);
+
+        storage.appendToFile("CS1010", 1);
+        storage.appendToFile("MA1511", 2);
+        storage.addCompletionStatus(2);
+        StudyPlan restoredPlan = storage.restoreData(storage);
+
+        assertEquals(2, restoredPlan.getCurrentSemester());
+        assertTrue(restoredPlan.hasModule("CS1010"));
+        assertEquals(2, restoredPlan.getPlannedSemester("MA1511"));
+    }
+
+    @Test
+    void testJournalMode_changesAppendedToJournalUntilCompacted() throws IOException {
+        storage = new Storage(TEST_FILE_PATH);
+        storage.enableJournal();
+
+        storage.appendToFile("CS1010", 1);
+        storage.appendToFile("MA1521", 1);
+        storage.deleteModule("MA1521", 1);
+
+        Path journalPath = Paths.get(TEST_FILE_PATH + ".journal");
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertFalse(Files.readAllLines(Paths.get(TEST_FILE_PATH)).get(0).contains("CS1010"));
+
+        storage.compactJournal();
+
+        var lines = Files.readAllLines(Paths.get(TEST_FILE_PATH));
+        assertTrue(lines.get(0).contains("CS1010"));
+        assertFalse(lines.get(0).contains("MA1521"));
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    void testCompactJournal_journalReplayedOntoCompactedFile_keepsOneCopyOfEachModule() throws IOException {
+        storage = new Storage(TEST_FILE_PATH);
+        storage.enableJournal();
+        Module exemptedModule = new Module("Quantitative Reasoning", "GEA1000", 4, "desc", List.of(), 3, 1);
+        exemptedModule.setStatus(ModuleStatus.EXEMPTED);
+
+        storage.appendToFile("CS1010", 1);
+        storage.saveSecuredModule(exemptedModule);
+        Path journalPath = Paths.get(TEST_FILE_PATH + ".journal");
+        List<String> journalRecords = Files.readAllLines(journalPath);
+        storage.compactJournal();
+
+        // A crash between writing the data file and clearing the journal leaves the journal to be replayed again
+        Files.write(journalPath, journalRecords);
+        storage.compactJournal();
+
+        var lines = Files.readAllLines(Paths.get(TEST_FILE_PATH));
+        assertEquals("1 - CS1010,", lines.get(0));
+        assertEquals("EXEMPTED - GEA1000:EXEMPTED,", lines.get(8));
+        StudyPlan restoredPlan = new Storage(TEST_FILE_PATH).restoreData(storage);
+        assertEquals(1, restoredPlan.getPlannedSemester("CS1010"));
+        assertTrue(restoredPlan.hasModule("GEA1000"));
+    }
+
+    @Test
+    void testRestoreData_journalRecords_replayedOntoDataFile() {
+        storage = new Storage(TEST_FILE_PATH);
+        storage.enableJournal();
+
+        storage.appendToFile("CS1010", 1);
+        storage.appendToFile("MA1511", 2);
+        StudyPlan restoredPlan = new Storage(TEST_FILE_PATH).restoreData(storage);
+
+        assertEquals(1, restoredPlan.getPlannedSemester("CS1010"));
+        assertEquals(2, restoredPlan.getPlannedSemester("MA1511"));
+    }
+
+    @Test
+    void testGroupCommit_changesWrittenTogetherOnFlush() throws IOException {
+        storage = new Storage(TEST_FILE_PATH);
+        storage.setGroupCommitWindow(60_000);
+
+        storage.appendToFile("CS1010", 1);
+        storage.appendToFile("MA1521", 2);
+        assertFalse(Files.readAllLines(Paths.get(TEST_FILE_PATH)).get(0).contains("CS1010"));
+
+        storage.flush();
+
+        var lines = Files.readAllLines(Paths.get(TEST_FILE_PATH));
+        assertTrue(lines.get(0).contains("CS1010"));
+        assertTrue(lines.get(1).contains("MA1521"));
+        storage.setGroupCommitWindow(0);
+    }
+
+    @Test
+    void testRestoreData_invalidFile_backedUpBeforeRecreating() throws IOException {
+        storage = new Storage(TEST_FILE_PATH);
+        Files.write(Paths.get(TEST_FILE_PATH), List.of("not a study plan"));
+
+        storage.restoreData(storage);
+
+        Path backupPath = Paths.get(TEST_FILE_PATH + ".bak");
+        assertEquals("not a study plan", Files.readAllLines(backupPath).get(0));
+        assertEquals(9, Files.readAllLines(Paths.get(TEST_FILE_PATH)).size());
+    }
+
+    @Test
+    void testRestoreData_savedMetadata_usedInsteadOfFetching() {
+        storage = new Storage(TEST_FILE_PATH);
+        storage.appendToFile("CS1010", 1);
+        storage.restoreData(storage);
+        assertTrue(Files.exists(Paths.get(TEST_FILE_PATH + ".meta")));
+
+        ModuleMetadataStore metadataStore = new ModuleMetadataStore(Paths.get(TEST_FILE_PATH + ".meta"));
+        metadataStore.load();
+        ModuleMetadata saved = metadataStore.get("CS1010");
+        metadataStore.put(ModuleMetadata.of("CS1010", "Saved Title", saved.moduleCredit(), saved.description(),
+                saved.semesterOffered(), saved.prereqExpression()));
+        metadataStore.save();
+
+        Storage restartedStorage = new Storage(TEST_FILE_PATH);
+        StudyPlan restoredPlan = restartedStorage.restoreData(storage);
+        assertEquals("Saved Title", restoredPlan.getSnapshot().getSemesters().get(0).get(0).definition().getModName());
+
+        // The background refresh notices the saved title no longer matches NUSMods
+        restartedStorage.getMetadataRefresh().join();
+        metadataStore.load();
+        assertEquals(saved, metadataStore.get("CS1010"));
+    }
+
+    @Test
+    void testBinaryFormat_existingTextFileConvertedAndRestored() throws IOException {
+        storage = new Storage(TEST_FILE_PATH);
+        storage.appendToFile("CS1010", 1);
+
+        String binaryFilePath = TEST_FILE_PATH.replace(".txt", ".bin");
+        Storage binaryStorage = new Storage(binaryFilePath);
+        binaryStorage.appendToFile("MA1511", 2);
+        StudyPlan restoredPlan = binaryStorage.restoreData(binaryStorage);
+
+        assertEquals(1, restoredPlan.getPlannedSemester("CS1010"));
+        assertEquals(2, restoredPlan.getPlannedSemester("MA1511"));
+
+        Path exportedPath = Paths.get(TEST_FILE_PATH.replace(".txt", "-exported.txt"));
+        Storage.convert(Paths.get(binaryFilePath), exportedPath);
+        assertEquals("2 - MA1511,", Files.readAllLines(exportedPath).get(1));
+    }
+
 }
@@ -0,0 +1,54 @@
+package seedu.classcraft.studyplan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classcraft.prerequisite.PrereqExpression;
+
+public class DependencyIndexTest {
+
+    @Test
+    public void getDependents_exactAndWildcardPrerequisites_returnsDependentModules() {
+        DependencyIndex index = new DependencyIndex();
+        Module exact = new Module("Mod A", "CS2030", 4, "desc", List.of("CS1010"), 0, 1);
+        Module wildcard = new Module("Mod B", "CS2040", 4, "desc", List.of("CS1010%:D"), 0, 1);
+
+        index.add(exact);
+        index.add(wildcard);
+
+        assertEquals(List.of("CS2030", "CS2040"), index.getDependents("CS1010"));
+        assertEquals(List.of("CS2040"), index.getDependents("CS1010E"));
+        assertTrue(index.getDependents("CS1231").isEmpty());
+    }
+
+    @Test
+    public void getDependents_prereqExpression_usesExpressionCodes() {
+        DependencyIndex index = new DependencyIndex();
+        Module module = new Module("Mod A", "CS2100", 4, "desc", Collections.emptyList(), 0, 1);
+        module.setPrereqExpression(new PrereqExpression.Or(List.of(
+                new PrereqExpression.ModuleRef("CS1010", null),
+                new PrereqExpression.Wildcard("CS1231", "D"))));
+
+        index.add(module);
+
+        assertEquals(List.of("CS2100"), index.getDependents("CS1010"));
+        assertEquals(List.of("CS2100"), index.getDependents("CS1231S"));
+    }
+
+    @Test
+    public void remove_indexedModule_noLongerReturnedAsDependent() {
+        DependencyIndex index = new DependencyIndex();
+        Module module = new Module("Mod A", "CS2030", 4, "desc", List.of("CS1010", "MA1521%"), 0, 1);
+
+        index.add(module);
+        index.remove(module);
+
+        assertTrue(index.getDependents("CS1010").isEmpty());
+        assertTrue(index.getDependents("MA1521").isEmpty());
+    }
+}
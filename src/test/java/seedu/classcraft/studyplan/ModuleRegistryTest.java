@@ -0,0 +1,69 @@
+package seedu.classcraft.studyplan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.classcraft.prerequisite.PrereqExpression;
+
+public class ModuleRegistryTest {
+
+    @Test
+    public void getOrFetch_cachedModule_returnsCachedDefinition() throws Exception {
+        ModuleRegistry registry = new ModuleRegistry(4);
+        ModuleDefinition definition = ModuleDefinition.of("ZZ1001", "Cached", 4, "desc", 3, null);
+        registry.put(definition);
+
+        assertSame(definition, registry.getOrFetch("ZZ1001"));
+        assertSame(definition, registry.getOrFetch("zz1001"));
+    }
+
+    @Test
+    public void put_pastCapacity_evictsLeastRecentlyUsed() {
+        ModuleRegistry registry = new ModuleRegistry(2);
+        registry.put(ModuleDefinition.of("ZZ1001", "First", 4, "desc", 3, null));
+        registry.put(ModuleDefinition.of("ZZ1002", "Second", 4, "desc", 3, null));
+        registry.get("ZZ1001");
+
+        registry.put(ModuleDefinition.of("ZZ1003", "Third", 4, "desc", 3, null));
+
+        assertEquals(2, registry.size());
+        assertEquals("First", registry.get("ZZ1001").getModName());
+        assertNull(registry.get("ZZ1002"));
+    }
+
+    @Test
+    public void getOrFetchAll_cachedModules_keepsOrderGiven() {
+        ModuleRegistry registry = new ModuleRegistry(4);
+        registry.put(ModuleDefinition.of("ZZ1001", "First", 4, "desc", 3, null));
+        registry.put(ModuleDefinition.of("ZZ1002", "Second", 4, "desc", 3, null));
+
+        Map<String, ModuleDefinition> definitions = registry.getOrFetchAll(List.of("ZZ1002", "ZZ1001"));
+
+        assertEquals(List.of("ZZ1002", "ZZ1001"), List.copyOf(definitions.keySet()));
+    }
+
+    @Test
+    public void createModule_sharedDefinition_givesEachPlanItsOwnModule() throws Exception {
+        ModuleRegistry registry = new ModuleRegistry(4);
+        PrereqExpression prereq = new PrereqExpression.ModuleRef("CS1231", null);
+        registry.put(ModuleDefinition.of("ZZ2001", "Shared", 4, "desc", 1, prereq));
+        ModuleHandler handler = new ModuleHandler(registry);
+
+        Module first = handler.createModule("ZZ2001");
+        Module second = handler.createModule("ZZ2001");
+        first.setStatus(ModuleStatus.COMPLETED);
+
+        assertNotSame(first, second);
+        assertSame(first.getDefinition(), second.getDefinition());
+        assertEquals(ModuleStatus.PLANNED, second.getStatus());
+        assertSame(first.getCompiledPrereq(), second.getCompiledPrereq());
+        assertEquals(List.of("CS1231"), second.getPrerequisites());
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.classcraft.studyplan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class PlanSnapshotTest {
+
+    @Test
+    public void getSnapshot_afterLaterChanges_keepsEarlierView() {
+        StudyPlan plan = new StudyPlan(4);
+        Module m1 = new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1);
+        Module m2 = new Module("Mod B", "B2020", 3, "desc", Collections.emptyList(), 0, 2);
+        plan.addModule(m1, 1);
+        PlanSnapshot before = plan.getSnapshot();
+
+        plan.addModule(m2, 2);
+        PlanSnapshot after = plan.getSnapshot();
+
+        assertNotSame(before, after);
+        assertEquals(4, before.getStats().getCredits(-1));
+        assertTrue(before.getSemesters().get(1).isEmpty());
+        assertFalse(before.hasModule("B2020"));
+        assertEquals(7, after.getStats().getCredits(-1));
+        assertEquals(2, after.getPlannedSemester("B2020"));
+    }
+
+    @Test
+    public void getSnapshot_statusChangedLater_keepsEarlierPlacement() throws Exception {
+        StudyPlan plan = new StudyPlan(4);
+        plan.addModule(new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1), 1);
+        PlanSnapshot before = plan.getSnapshot();
+
+        plan.setCurrentSemester(2, null, true);
+
+        PlannedModule placement = before.getSemesters().get(0).get(0);
+        assertEquals(1, placement.semester());
+        assertEquals(ModuleStatus.PLANNED, placement.status());
+        assertEquals(ModuleStatus.COMPLETED, plan.getSnapshot().getSemesters().get(0).get(0).status());
+    }
+
+    @Test
+    public void getSnapshot_currentSemesterMoved_countsEarlierSemestersAsSecured() throws Exception {
+        StudyPlan plan = new StudyPlan(4);
+        plan.addModule(new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1), 1);
+        plan.addModule(new Module("Mod B", "B2020", 3, "desc", Collections.emptyList(), 0, 2), 2);
+
+        plan.setCurrentSemester(2, null, true);
+        PlanSnapshot snapshot = plan.getSnapshot();
+
+        assertEquals(2, snapshot.getCurrentSemester());
+        assertEquals(4, snapshot.getStats().getSecuredCredits());
+        assertEquals(2.5, snapshot.getStats().getDegreeProgressPercentage());
+    }
+
+    @Test
+    public void getSemesters_modifyingList_throwsException() {
+        StudyPlan plan = new StudyPlan(2);
+        Module m1 = new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1);
+        PlanSnapshot snapshot = plan.getSnapshot();
+        PlannedModule placement = m1.toPlannedModule();
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getSemesters().get(0).add(placement));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getExemptedModules().add(placement));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.classcraft.studyplan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.classcraft.storage.Storage;
+
+public class PlanStatsTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void getStats_modulesAdded_countsPlannedCredits() {
+        StudyPlan plan = new StudyPlan(4);
+        plan.addModule(new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1), 1);
+        plan.addModule(new Module("Mod B", "B2020", 3, "desc", Collections.emptyList(), 0, 2), 2);
+
+        PlanStats stats = plan.getStats();
+
+        assertEquals(4, stats.getCredits(0));
+        assertEquals(3, stats.getCredits(1));
+        assertEquals(7, stats.getPlannedCredits());
+        assertEquals(7, stats.getUncompletedCredits());
+        assertEquals(0, stats.getSecuredCredits());
+    }
+
+    @Test
+    public void getStats_exemptedModuleAndSemesterMoved_countsSecuredCredits() throws Exception {
+        StudyPlan plan = new StudyPlan(4);
+        plan.addModule(new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1), 1);
+        plan.addModule(new Module("Mod B", "B2020", 3, "desc", Collections.emptyList(), 0, 2), 2);
+        plan.restoreExemptedModules(List.of(exemptedModule("C3030", 2)));
+
+        plan.setCurrentSemester(2, null, true);
+        PlanStats stats = plan.getStats();
+
+        assertEquals(2, stats.getExemptedCredits());
+        assertEquals(6, stats.getSecuredCredits());
+        assertEquals(3, stats.getUncompletedCredits());
+        assertEquals(7, stats.getPlannedCredits());
+
+        plan.setCurrentSemester(1, null, true);
+        assertEquals(2, plan.getStats().getSecuredCredits());
+        assertEquals(7, plan.getStats().getUncompletedCredits());
+    }
+
+    @Test
+    public void getStats_modulesRemoved_subtractsCredits() throws Exception {
+        Storage storage = new Storage(tempDir.resolve("plan.txt").toString());
+        StudyPlan plan = new StudyPlan(4);
+        plan.addModule(new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1), 1);
+        plan.restoreExemptedModules(List.of(exemptedModule("C3030", 2)));
+        plan.setCurrentSemester(2, null, true);
+
+        plan.removeModule("A1010", storage);
+        plan.removeModule("C3030", storage);
+        PlanStats stats = plan.getStats();
+
+        assertEquals(0, stats.getCredits(0));
+        assertEquals(0, stats.getPlannedCredits());
+        assertEquals(0, stats.getSecuredCredits());
+        assertEquals(0, stats.getCredits(-1));
+    }
+
+    @Test
+    public void getCredits_invalidSemester_throwsIllegalArgumentException() {
+        PlanStats stats = new StudyPlan(2).getStats();
+        assertThrows(IllegalArgumentException.class, () -> stats.getCredits(2));
+    }
+
+    private static Module exemptedModule(String moduleCode, int credits) {
+        Module module = new Module("Mod " + moduleCode, moduleCode, credits, "desc", Collections.emptyList(), 0, 1);
+        module.setStatus(ModuleStatus.EXEMPTED);
+        return module;
+    }
+}
@@ -52,7 +52,7 @@ class PrerequisiteCheckerTest {
         Module module = createModule("CS1010", "Programming Methodology", 4);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 1, studyPlan,false)
+                PrerequisiteChecker.validatePrerequisites(module, 1, studyPlan)
         );
     }
 
@@ -64,7 +64,7 @@ class PrerequisiteCheckerTest {
                 emptyNode);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 1, studyPlan,false)
+                PrerequisiteChecker.validatePrerequisites(module, 1, studyPlan)
         );
     }
 
@@ -78,7 +78,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         StudyPlanException exception = assertThrows(StudyPlanException.class, () ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
 
         assertTrue(exception.getMessage().contains("Cannot add CS2040"));
@@ -97,7 +97,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -113,7 +113,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 4, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 4, studyPlan)
         );
     }
 
@@ -131,7 +131,7 @@ class PrerequisiteCheckerTest {
                 prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -147,7 +147,7 @@ class PrerequisiteCheckerTest {
                 prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -160,7 +160,7 @@ class PrerequisiteCheckerTest {
                 prereqTree);
 
         assertThrows(StudyPlanException.class, () ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -178,7 +178,7 @@ class PrerequisiteCheckerTest {
                 prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -198,7 +198,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -214,7 +214,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         assertThrows(StudyPlanException.class, () ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -227,7 +227,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         assertThrows(StudyPlanException.class, () ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -247,7 +247,7 @@ class PrerequisiteCheckerTest {
                 prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -266,7 +266,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -283,7 +283,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         assertThrows(StudyPlanException.class, () ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan,false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -300,7 +300,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -326,7 +326,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 1, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 1, studyPlan)
         );
     }
 
@@ -343,7 +343,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
     }
 
@@ -356,7 +356,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         StudyPlanException exception = assertThrows(StudyPlanException.class, () ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
 
         assertTrue(exception.getMessage().contains("Cannot add CS2040"));
@@ -371,7 +371,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         assertThrows(StudyPlanException.class, () ->
-                PrerequisiteChecker.validatePrerequisites(module, 1, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 1, studyPlan)
         );
     }
 
@@ -393,7 +393,7 @@ class PrerequisiteCheckerTest {
                 prereqTree);
 
         assertDoesNotThrow(() ->
-                PrerequisiteChecker.validatePrerequisites(mod3, 3, studyPlan,false)
+                PrerequisiteChecker.validatePrerequisites(mod3, 3, studyPlan)
         );
     }
 
@@ -406,7 +406,7 @@ class PrerequisiteCheckerTest {
                 4, prereqTree);
 
         StudyPlanException exception = assertThrows(StudyPlanException.class, () ->
-                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan, false)
+                PrerequisiteChecker.validatePrerequisites(module, 2, studyPlan)
         );
 
         String message = exception.getMessage();
@@ -430,7 +430,8 @@ class PrerequisiteCheckerTest {
         assertEquals(4, module.getModCreds());
         assertEquals("Introduction to data structures", module.getModDescription());
         assertEquals(2, module.getPrerequisites().size());
-        assertEquals(1, module.getSemesterTaught());
+        assertEquals(1, module.getSemesterOffered());
+        assertEquals(0, module.getSemesterTaught());
         assertEquals(2, module.getDefaultSemester());
         assertNull(module.getPrereqTree());
         assertEquals(0, module.getPrerequisitesCount());
@@ -1,14 +1,29 @@
 package seedu.classcraft.studyplan;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.classcraft.exceptions.StudyPlanException;
+import seedu.classcraft.prerequisite.PrereqExpression;
+import seedu.classcraft.storage.Storage;
 
 public class StudyPlanTest {
-    
+    @TempDir
+    Path tempDir;
+
     @Test
     public void calculateSemCredits_singleSemester_returnsSumOfCredits() {
         StudyPlan plan = new StudyPlan(3); // 3 semesters
@@ -46,4 +61,163 @@ public class StudyPlanTest {
         StudyPlan plan = new StudyPlan(2);
         assertThrows(IllegalArgumentException.class, () -> plan.calculateSemCredits(5));
     }
+
+    @Test
+    public void getPlannedSemester_plannedAndUnknownModules_returnsSemesterOrZero() {
+        StudyPlan plan = new StudyPlan(3);
+        Module m1 = new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1);
+
+        plan.addModule(m1, 2);
+
+        assertEquals(2, plan.getPlannedSemester("A1010"));
+        assertEquals(0, plan.getPlannedSemester("ZZ9999Z"));
+        assertTrue(plan.hasModule("A1010"));
+        assertFalse(plan.hasModule("ZZ9999Z"));
+    }
+
+    @Test
+    public void addModule_alreadyPlanned_throwsIllegalArgumentException() {
+        StudyPlan plan = new StudyPlan(3);
+        Module m1 = new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1);
+        Module copy = new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1);
+
+        plan.addModule(m1, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> plan.addModule(copy, 3));
+    }
+
+    @Test
+    public void getCompletedModulesBefore_modulesInEarlierSemesters_returnsOnlyThoseModules() {
+        StudyPlan plan = new StudyPlan(3);
+        Module m1 = new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1);
+        Module m2 = new Module("Mod B", "B2020", 3, "desc", Collections.emptyList(), 0, 2);
+
+        plan.addModule(m1, 1);
+        plan.addModule(m2, 2);
+
+        assertTrue(plan.getCompletedModulesBefore(1).isEmpty());
+        assertTrue(plan.getCompletedModulesBefore(2).get(m1.getModuleId()));
+        assertFalse(plan.getCompletedModulesBefore(2).get(m2.getModuleId()));
+        assertEquals(2, plan.getCompletedModulesBefore(3).cardinality());
+        assertEquals(2, plan.getCompletedModulesBefore(10).cardinality());
+    }
+
+    @Test
+    public void getCompletedModulesBefore_returnedSetModified_planUnchanged() {
+        StudyPlan plan = new StudyPlan(3);
+        Module m1 = new Module("Mod A", "A1010", 4, "desc", Collections.emptyList(), 0, 1);
+        plan.addModule(m1, 1);
+
+        plan.getCompletedModulesBefore(2).clear();
+
+        assertTrue(plan.getCompletedModulesBefore(2).get(m1.getModuleId()));
+    }
+
+    @Test
+    public void setCurrentSemester_twoPlans_keepSeparateSemesters() throws Exception {
+        StudyPlan first = new StudyPlan(4);
+        first.setCurrentSemester(3, null, true);
+        StudyPlan second = new StudyPlan(8);
+
+        assertEquals(3, first.getCurrentSemester());
+        assertEquals(4, first.getTotalSemesters());
+        assertEquals(1, second.getCurrentSemester());
+        assertEquals(8, second.getTotalSemesters());
+    }
+
+    @Test
+    public void addModule_sharedPlanFromManyThreads_keepsEveryModule() throws Exception {
+        StudyPlan plan = new StudyPlan(8);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Module module = new Module("Mod " + i, "T" + (1000 + i), 4, "desc", Collections.emptyList(), 0, 1);
+            int semester = i % 8 + 1;
+            threads.add(new Thread(() -> plan.addModule(module, semester)));
+        }
+
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(160, plan.calculateSemCredits(-1));
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i % 8 + 1, plan.getPlannedSemester("T" + (1000 + i)));
+        }
+    }
+
+    @Test
+    public void addModules_prerequisiteInEarlierSemesterOfBatch_addsAllInOneWrite() throws Exception {
+        ModuleRegistry registry = ModuleRegistry.getInstance();
+        registry.put(ModuleDefinition.of("ZB1001", "Batch A", 4, "desc", 3, null));
+        registry.put(ModuleDefinition.of("ZB1002", "Batch B", 4, "desc", 3,
+                new PrereqExpression.ModuleRef("ZB1001", null)));
+        Storage storage = new Storage(tempDir.resolve("plan.txt").toString());
+        storage.createFile();
+        StudyPlan plan = new StudyPlan(8);
+
+        Map<String, Integer> moduleSemesters = new LinkedHashMap<>();
+        moduleSemesters.put("ZB1002", 2);
+        moduleSemesters.put("ZB1001", 1);
+        plan.addModules(moduleSemesters, storage);
+
+        assertEquals(1, plan.getPlannedSemester("ZB1001"));
+        assertEquals(2, plan.getPlannedSemester("ZB1002"));
+        List<String> lines = Files.readAllLines(tempDir.resolve("plan.txt"));
+        assertEquals("1 - ZB1001,", lines.get(0));
+        assertEquals("2 - ZB1002,", lines.get(1));
+    }
+
+    @Test
+    public void addModules_prerequisiteInSameSemester_addsNothing() throws Exception {
+        ModuleRegistry registry = ModuleRegistry.getInstance();
+        registry.put(ModuleDefinition.of("ZB1003", "Batch C", 4, "desc", 3, null));
+        registry.put(ModuleDefinition.of("ZB1004", "Batch D", 4, "desc", 3,
+                new PrereqExpression.ModuleRef("ZB1003", null)));
+        Storage storage = new Storage(tempDir.resolve("plan.txt").toString());
+        storage.createFile();
+        StudyPlan plan = new StudyPlan(8);
+
+        Map<String, Integer> moduleSemesters = new LinkedHashMap<>();
+        moduleSemesters.put("ZB1003", 1);
+        moduleSemesters.put("ZB1004", 1);
+
+        assertThrows(StudyPlanException.class, () -> plan.addModules(moduleSemesters, storage));
+        assertFalse(plan.hasModule("ZB1003"));
+        assertEquals(0, plan.getStats().getPlannedCredits());
+        assertEquals("1 -", Files.readAllLines(tempDir.resolve("plan.txt")).get(0));
+    }
+
+    @Test
+    public void addModules_storageWriteFails_addsNothing() throws Exception {
+        ModuleRegistry.getInstance().put(ModuleDefinition.of("ZB1006", "Batch F", 4, "desc", 3, null));
+        Path blocker = Files.createFile(tempDir.resolve("blocker"));
+        Storage storage = new Storage(blocker.resolve("plan.txt").toString());
+        StudyPlan plan = new StudyPlan(8);
+
+        assertThrows(IOException.class, () -> plan.addModules(Map.of("ZB1006", 1), storage));
+        assertFalse(plan.hasModule("ZB1006"));
+        assertFalse(plan.getSnapshot().hasModule("ZB1006"));
+    }
+
+    @Test
+    public void addExemptedModule_plannedModule_publishesOneConsistentSnapshot() throws Exception {
+        ModuleRegistry.getInstance().put(ModuleDefinition.of("ZB1005", "Batch E", 4, "desc", 3, null));
+        Storage storage = new Storage(tempDir.resolve("plan.txt").toString());
+        storage.createFile();
+        StudyPlan plan = new StudyPlan(8);
+        plan.addModule("ZB1005", 1, storage, false);
+        PlanSnapshot before = plan.getSnapshot();
+
+        plan.addExemptedModule("ZB1005", ModuleStatus.EXEMPTED, storage, false);
+        PlanSnapshot after = plan.getSnapshot();
+
+        assertEquals(1, before.getPlannedSemester("ZB1005"));
+        assertTrue(before.getExemptedModules().isEmpty());
+        assertEquals(0, after.getPlannedSemester("ZB1005"));
+        assertTrue(after.getSemesters().get(0).isEmpty());
+        assertEquals(1, after.getExemptedModules().size());
+        assertEquals(0, after.getStats().getPlannedCredits());
+        assertEquals(4, after.getStats().getExemptedCredits());
+    }
 }
@@ -341,7 +341,7 @@ class UiTest {
     @DisplayName("Should display empty study plan")
     void testDisplayEmptyPlan() {
         StudyPlan emptyPlan = new StudyPlan(4);
-        ui.displayCurrentPlan(emptyPlan);
+        ui.displayCurrentPlan(emptyPlan.getSnapshot());
 
         String output = outContent.toString();
         assertTrue(output.contains("Current Study Plan"));
@@ -359,7 +359,7 @@ class UiTest {
         plan.addModule(mod1, 1);
         plan.addModule(mod2, 1);
 
-        ui.displayCurrentPlan(plan);
+        ui.displayCurrentPlan(plan.getSnapshot());
 
         String output = outContent.toString();
         assertTrue(output.contains("Current Study Plan"));
@@ -379,7 +379,7 @@ class UiTest {
         Module mod = createModuleWithPrereqs("CS2040", "Data Structures", 4, prereqs);
         plan.addModule(mod, 1);
 
-        ui.displayCurrentPlan(plan);
+        ui.displayCurrentPlan(plan.getSnapshot());
 
         String output = outContent.toString();
         assertTrue(output.contains("CS2040"));
@@ -393,7 +393,7 @@ class UiTest {
         Module mod = createModule("CS1010", "Programming Methodology", 4);
         samplePlan.addModule(mod, 1);
 
-        ui.displaySamplePlan(samplePlan);
+        ui.displaySamplePlan(samplePlan.getSnapshot());
 
         String output = outContent.toString();
         assertTrue(output.contains("CEG Sample Study Plan"));
@@ -413,7 +413,7 @@ class UiTest {
         plan.addModule(mod2, 2);
         plan.addModule(mod3, 3);
 
-        ui.displayCurrentPlan(plan);
+        ui.displayCurrentPlan(plan.getSnapshot());
 
         String output = outContent.toString();
         assertTrue(output.contains("Semester 1:"));
@@ -434,7 +434,7 @@ class UiTest {
         Module mod3 = createModule("CS2040", "Data Structures", 4);
         plan.addModule(mod3, 3);
 
-        ui.displayCurrentPlan(plan);
+        ui.displayCurrentPlan(plan.getSnapshot());
 
         String output = outContent.toString();
         assertTrue(output.contains("Semester 1:"));
@@ -451,7 +451,7 @@ class UiTest {
         StudyPlan plan = new StudyPlan(1);
         plan.addModule(mod, 1);
 
-        ui.displayCurrentPlan(plan);
+        ui.displayCurrentPlan(plan.getSnapshot());
 
         String output = outContent.toString();
         assertTrue(output.contains("(No Prerequisites)"));
@@ -469,7 +469,7 @@ class UiTest {
         StudyPlan plan = new StudyPlan(1);
         plan.addModule(mod, 1);
 
-        ui.displayCurrentPlan(plan);
+        ui.displayCurrentPlan(plan.getSnapshot());
 
         String output = outContent.toString();
         assertTrue(output.contains("CS1010"));